@@ -19,9 +19,12 @@ repositories {
 
 dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test:3.2.3")
+    testImplementation("org.testcontainers:junit-jupiter:1.19.7")
+    testImplementation("org.testcontainers:minio:1.19.7")
     implementation("org.springframework.boot:spring-boot-starter-web:3.2.3")
     implementation("org.springframework.boot:spring-boot-maven-plugin:3.2.0")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa:3.2.3")
+    implementation("org.springframework.boot:spring-boot-starter-actuator:3.2.3")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf:3.3.2")
     implementation("mysql:mysql-connector-java:8.0.33")
     implementation("com.github.N7ghtm4r3:APIManager:2.2.4")
@@ -33,6 +36,11 @@ dependencies {
     implementation("com.github.N7ghtm4r3:Equinox:1.0.3")
     implementation("com.google.zxing:core:3.3.1")
     implementation("com.google.zxing:javase:3.3.1")
+    implementation("software.amazon.awssdk:s3:2.25.27")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 afterEvaluate {
@@ -10,6 +10,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.annotation.PropertySources;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import static com.tecknobit.equinox.resourcesutils.ResourcesProvider.CUSTOM_CONFIGURATION_FILE_PATH;
 import static com.tecknobit.equinox.resourcesutils.ResourcesProvider.DEFAULT_CONFIGURATION_FILE_PATH;
@@ -29,6 +30,7 @@ import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.*;
 @EntityScan("com.tecknobit.*")
 @ComponentScan("com.tecknobit.nova.*")
 @SpringBootApplication
+@EnableScheduling
 public class Launcher {
 
     /**
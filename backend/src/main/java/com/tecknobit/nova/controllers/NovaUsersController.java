@@ -3,27 +3,37 @@ package com.tecknobit.nova.controllers;
 import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.equinox.annotations.CustomParametersOrder;
 import com.tecknobit.equinox.environment.controllers.EquinoxUsersController;
+import com.tecknobit.nova.helpers.services.NotificationsCursor;
+import com.tecknobit.nova.helpers.services.NotificationsStream;
 import com.tecknobit.nova.helpers.services.NovaUsersHelper;
 import com.tecknobit.nova.helpers.services.repositories.releaseutils.NotificationsRepository;
 import com.tecknobit.novacore.records.NovaNotification;
 import com.tecknobit.novacore.records.NovaUser;
+import jakarta.servlet.http.HttpServletResponse;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.equinox.environment.records.EquinoxItem.IDENTIFIER_KEY;
 import static com.tecknobit.equinox.environment.records.EquinoxUser.TOKEN_KEY;
 import static com.tecknobit.equinox.environment.records.EquinoxUser.USERS_KEY;
+import static com.tecknobit.nova.helpers.services.NotificationsCursor.END_CURSOR;
 import static com.tecknobit.novacore.records.NovaNotification.NOTIFICATIONS_KEY;
 import static com.tecknobit.novacore.records.NovaUser.ROLE_KEY;
 import static com.tecknobit.novacore.records.NovaUser.Role.Vendor;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
 
 /**
  * The {@code UsersController} class is useful to manage all the user operations
@@ -35,12 +45,48 @@ import static com.tecknobit.novacore.records.NovaUser.Role.Vendor;
 @RestController
 public class NovaUsersController extends EquinoxUsersController<NovaUser> {
 
+    /**
+     * {@code CURSOR_KEY} the key for the <b>"cursor"</b> field
+     */
+    public static final String CURSOR_KEY = "cursor";
+
+    /**
+     * {@code PAGE_SIZE_KEY} the key for the <b>"page_size"</b> field
+     */
+    public static final String PAGE_SIZE_KEY = "page_size";
+
+    /**
+     * {@code ONLY_UNSENT_KEY} the key for the <b>"only_unsent"</b> field
+     */
+    public static final String ONLY_UNSENT_KEY = "only_unsent";
+
+    /**
+     * {@code NEXT_CURSOR_HEADER} the header where is returned the cursor to fetch the next page of the notifications
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * {@code DEFAULT_PAGE_SIZE} the number of the notifications returned when the page size is not specified
+     */
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * {@code MAX_PAGE_SIZE} the max number of the notifications returned with a single request
+     */
+    private static final int MAX_PAGE_SIZE = 200;
+
     /**
      * {@code notificationsRepository} instance useful to manage the notifications
      */
     @Autowired
     private NotificationsRepository notificationsRepository;
 
+    /**
+     * {@code notificationsStream} the stream used to push the notifications to the users connected
+     */
+    @Autowired
+    private NotificationsStream notificationsStream;
+
     /**
      * Constructor to init the {@link EquinoxUsersController} controller
      *
@@ -95,12 +141,22 @@ public class NovaUsersController extends EquinoxUsersController<NovaUser> {
     }
 
     /**
-     * Method to get the notifications of the user
+     * Method to get the notifications of the user, ordered from the newest, the notifications not sent yet are set
+     * as sent
      *
      * @param id: the identifier of the user
      * @param token: the token of the user
+     * @param cursor: the cursor of the last notification already received, formatted as
+     * <b>"creation_date_notification_id"</b>, if not specified the notifications start from the newest one
+     * @param pageSize: the max number of the notifications to return
+     * @param onlyUnsent: whether return only the notifications not sent yet
+     * @param response: the response where set the {@link #NEXT_CURSOR_HEADER}
      *
      * @return the result of the request as {@link String}
+     *
+     * @apiNote when neither the cursor nor the page size are specified all the notifications are returned, otherwise
+     * the notifications are paginated and the cursor to fetch the older ones is returned in the
+     * {@link #NEXT_CURSOR_HEADER}, which is not set when there are no other notifications
      */
     @GetMapping(
             path = USERS_KEY + "/{" + IDENTIFIER_KEY + "}/" + NOTIFICATIONS_KEY,
@@ -111,14 +167,69 @@ public class NovaUsersController extends EquinoxUsersController<NovaUser> {
     @RequestPath(path = "/api/v1/users/{id}/notifications", method = GET)
     public <T> T getNotifications(
             @PathVariable(IDENTIFIER_KEY) String id,
-            @RequestHeader(TOKEN_KEY) String token
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = CURSOR_KEY, required = false) String cursor,
+            @RequestParam(name = PAGE_SIZE_KEY, required = false) Integer pageSize,
+            @RequestParam(name = ONLY_UNSENT_KEY, defaultValue = "false") boolean onlyUnsent,
+            HttpServletResponse response
     ) {
         if(isMe(id, token)) {
-            List<NovaNotification> notifications = notificationsRepository.getUserNotifications(id);
-            notificationsRepository.setUserNotificationsAsSent(id);
+            NotificationsCursor notificationsCursor = NotificationsCursor.parse(cursor, END_CURSOR);
+            boolean paginated = cursor != null || pageSize != null;
+            int limit = Integer.MAX_VALUE;
+            if(paginated) {
+                if(pageSize == null)
+                    pageSize = DEFAULT_PAGE_SIZE;
+                limit = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+            }
+            List<NovaNotification> notifications;
+            if(onlyUnsent) {
+                notifications = notificationsRepository.getUserUnsentNotificationsBefore(id,
+                        notificationsCursor.getCreationDate(), notificationsCursor.getNotificationId(), limit);
+            } else {
+                notifications = notificationsRepository.getUserNotificationsBefore(id,
+                        notificationsCursor.getCreationDate(), notificationsCursor.getNotificationId(), limit);
+            }
+            ArrayList<String> unsentNotifications = new ArrayList<>();
+            for (NovaNotification notification : notifications)
+                if(!notification.isSent())
+                    unsentNotifications.add(notification.getId());
+            if(!unsentNotifications.isEmpty())
+                notificationsRepository.setNotificationsAsSent(unsentNotifications);
+            if(paginated && notifications.size() == limit) {
+                response.setHeader(NEXT_CURSOR_HEADER,
+                        new NotificationsCursor(notifications.get(limit - 1)).toString());
+            }
             return (T) successResponse(notifications);
         } else
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
     }
 
+    /**
+     * Method to open a stream where the notifications of the user are pushed as soon as they are created
+     *
+     * @param id: the identifier of the user
+     * @param token: the token of the user
+     * @param lastEventId: the identifier of the last notification received, used to resume the stream
+     *
+     * @return the result of the request as {@link ResponseEntity} of {@link SseEmitter}
+     */
+    @GetMapping(
+            path = USERS_KEY + "/{" + IDENTIFIER_KEY + "}/" + NOTIFICATIONS_KEY + "/stream",
+            headers = {
+                    TOKEN_KEY
+            },
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    @RequestPath(path = "/api/v1/users/{id}/notifications/stream", method = GET)
+    public ResponseEntity<SseEmitter> streamNotifications(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        if(!isMe(id, token))
+            return ResponseEntity.status(FORBIDDEN).build();
+        return ResponseEntity.ok(notificationsStream.subscribe(id, lastEventId));
+    }
+
 }
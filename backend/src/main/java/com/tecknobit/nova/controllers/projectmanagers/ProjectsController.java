@@ -3,6 +3,7 @@ package com.tecknobit.nova.controllers.projectmanagers;
 import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.equinox.environment.helpers.services.EquinoxUsersHelper;
 import com.tecknobit.nova.controllers.DefaultNovaController;
+import com.tecknobit.nova.helpers.ReportsGenerator;
 import com.tecknobit.nova.helpers.services.ProjectsHelper;
 import com.tecknobit.novacore.records.NovaUser;
 import com.tecknobit.novacore.records.project.JoiningQRCode;
@@ -10,13 +11,20 @@ import com.tecknobit.novacore.records.project.Project;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.equinox.environment.records.EquinoxUser.TOKEN_KEY;
@@ -44,16 +52,24 @@ public class ProjectsController extends ProjectManager {
      */
     private final EquinoxUsersHelper<NovaUser> usersHelper;
 
+    /**
+     * {@code reportsGenerator} the service used to generate the reports of the releases
+     */
+    private final ReportsGenerator reportsGenerator;
+
     /**
      * Constructor to init the {@link ProjectsController} controller
      *
      * @param projectsHelper: helper to manage the projects database operations
      * @param usersHelper: helper to manage the users database operations
+     * @param reportsGenerator: the service used to generate the reports of the releases
      */
     @Autowired
-    public ProjectsController(ProjectsHelper projectsHelper, EquinoxUsersHelper<NovaUser> usersHelper) {
+    public ProjectsController(ProjectsHelper projectsHelper, EquinoxUsersHelper<NovaUser> usersHelper,
+                              ReportsGenerator reportsGenerator) {
         super(projectsHelper);
         this.usersHelper = usersHelper;
+        this.reportsGenerator = reportsGenerator;
     }
 
     /**
@@ -208,6 +224,53 @@ public class ProjectsController extends ProjectManager {
         }
     }
 
+    /**
+     * Method to export the reports of all the releases of a project in a ZIP archive, the reports are rendered in
+     * parallel and each report is streamed in the archive as soon as is ready
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier from export the reports
+     * @param token: the token of the user
+     *
+     * @return the archive of the reports as {@link ResponseEntity}
+     *
+     * @apiNote the releases without events have not a report, so are not included in the archive
+     */
+    @GetMapping(
+            path = "/{" + IDENTIFIER_KEY + "}/" + PROJECTS_KEY + "/{" + PROJECT_IDENTIFIER_KEY + "}" + EXPORT_REPORTS_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{projectId}/exportReports", method = GET)
+    public ResponseEntity<?> exportReports(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @RequestHeader(TOKEN_KEY) String token
+    ) {
+        if(!isMe(id, token) || !amIProjectMember(id, projectId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE));
+        }
+        StreamingResponseBody archive;
+        try {
+            archive = reportsGenerator.exportReports(currentProject.getReleases(), me.getLanguage());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(failedResponse(WRONG_PROCEDURE_MESSAGE));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(currentProject.getName() + "_reports.zip")
+                        .build()
+                        .toString()
+                )
+                .body(archive);
+    }
+
     /**
      * Method to add members in a project
      *
@@ -2,32 +2,64 @@ package com.tecknobit.nova.controllers.projectmanagers;
 
 import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.nova.controllers.DefaultNovaController;
-import com.tecknobit.nova.helpers.ReportsProvider;
+import com.tecknobit.nova.helpers.ReportsGenerator;
+import com.tecknobit.nova.helpers.ReportsGenerator.ReportJob;
+import com.tecknobit.nova.helpers.ReportsGenerator.ReportJobStatus;
+import com.tecknobit.nova.helpers.resources.AssetUploadSessions;
+import com.tecknobit.nova.helpers.resources.AssetUploadSessions.UploadSession;
+import com.tecknobit.nova.helpers.resources.storage.BlobResource;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
 import com.tecknobit.nova.helpers.services.ProjectsHelper;
 import com.tecknobit.nova.helpers.services.ReleasesHelper;
+import com.tecknobit.nova.helpers.services.ReleasesHelper.StorageQuotaExceededException;
 import com.tecknobit.novacore.records.release.Release;
 import com.tecknobit.novacore.records.release.events.AssetUploadingEvent;
+import com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded;
 import com.tecknobit.novacore.records.release.events.RejectedReleaseEvent;
+import com.tecknobit.novacore.records.release.events.ReleaseEvent;
 import com.tecknobit.novacore.records.release.events.ReleaseEvent.ReleaseTag;
-import org.json.JSONObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletFileUpload;
+import org.json.JSONArray;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
+import static com.tecknobit.equinox.environment.records.EquinoxUser.NAME_KEY;
 import static com.tecknobit.equinox.environment.records.EquinoxUser.TOKEN_KEY;
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.DEFAULT_ASSET_CONTENT_TYPE;
 import static com.tecknobit.novacore.NovaInputValidator.*;
 import static com.tecknobit.novacore.helpers.NovaEndpoints.*;
 import static com.tecknobit.novacore.records.NovaUser.PROJECTS_KEY;
 import static com.tecknobit.novacore.records.project.Project.PROJECT_IDENTIFIER_KEY;
 import static com.tecknobit.novacore.records.release.Release.*;
 import static com.tecknobit.novacore.records.release.Release.ReleaseStatus.*;
-import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.ASSET_UPLOADING_EVENT_IDENTIFIER_KEY;
-import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.ASSETS_UPLOADED_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.*;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.*;
 import static com.tecknobit.novacore.records.release.events.RejectedReleaseEvent.REASONS_KEY;
 import static com.tecknobit.novacore.records.release.events.RejectedReleaseEvent.TAGS_KEY;
 import static com.tecknobit.novacore.records.release.events.RejectedTag.COMMENT_KEY;
@@ -52,16 +84,80 @@ public class ReleasesController extends ProjectManager {
      */
     private final ReleasesHelper releasesHelper;
 
+    /**
+     * {@code reportsGenerator} the generator of the reports of the releases
+     */
+    private final ReportsGenerator reportsGenerator;
+
+    /**
+     * {@code CONTENT_RANGE_PATTERN} the pattern of the {@code Content-Range} header of the chunks uploaded
+     */
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+    /**
+     * {@code RANGE_PATTERN} the pattern of the single range requested with the {@code Range} header
+     */
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    /**
+     * {@code IMMUTABLE_CACHE_CONTROL} the cache control of the assets, their content never changes
+     */
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    /**
+     * {@code SENDFILE_SUPPORT_ATTRIBUTE} the attribute set by the container when supports the sendfile transfer
+     */
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+    /**
+     * {@code SENDFILE_FILENAME_ATTRIBUTE} the attribute of the file to transfer with the sendfile transfer
+     */
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+    /**
+     * {@code SENDFILE_START_ATTRIBUTE} the attribute of the first byte to transfer with the sendfile transfer
+     */
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+    /**
+     * {@code SENDFILE_END_ATTRIBUTE} the attribute of the byte, excluded, where the sendfile transfer ends
+     */
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * {@code PRESIGNED_URL_EXPIRATION} how long the temporary urls of the assets served directly by the storage are
+     * valid
+     */
+    private static final Duration PRESIGNED_URL_EXPIRATION = Duration.ofMinutes(5);
+
+    /**
+     * {@code uploadSessions} the manager of the resumable upload sessions of the assets
+     */
+    private final AssetUploadSessions uploadSessions;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    private final BlobStorage blobStorage;
+
     /**
      * Constructor to init the {@link ProjectsController} controller
      *
      * @param projectsHelper: helper to manage the projects database operations
      * @param releasesHelper: helper to manage the releases database operations
+     * @param reportsGenerator: the generator of the reports of the releases
+     * @param uploadSessions: the manager of the resumable upload sessions of the assets
+     * @param blobStorage: the storage where the resources are stored
      */
     @Autowired
-    public ReleasesController(ProjectsHelper projectsHelper, ReleasesHelper releasesHelper) {
+    public ReleasesController(ProjectsHelper projectsHelper, ReleasesHelper releasesHelper,
+                              ReportsGenerator reportsGenerator, AssetUploadSessions uploadSessions,
+                              BlobStorage blobStorage) {
         super(projectsHelper);
         this.releasesHelper = releasesHelper;
+        this.reportsGenerator = reportsGenerator;
+        this.uploadSessions = uploadSessions;
+        this.blobStorage = blobStorage;
     }
 
     /**
@@ -231,12 +327,13 @@ public class ReleasesController extends ProjectManager {
      * @param projectId: the project identifier where the release is attached
      * @param releaseId: the release identifier where upload the asset
      * @param token: the token of the user
-     * @param assets: the assets to upload
-     * @param comment: the comment about the assets uploaded
+     * @param request: the multipart request with the assets, in the {@code "assets_uploaded"} parts, and the
+     *                 optional {@code "comment"} part
      *
      * @return the result of the request as {@link String}
      *
-     * @apiNote this request, if successful, will make change the release status to {@link ReleaseStatus#Verifying}
+     * @apiNote this request, if successful, will make change the release status to {@link ReleaseStatus#Verifying}.
+     * The parts are resolved lazily, so the request is rejected over the storage quota before its body is received
      */
     @PostMapping(
             path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + UPLOAD_ASSETS_ENDPOINT,
@@ -250,21 +347,30 @@ public class ReleasesController extends ProjectManager {
             @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
             @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
             @RequestHeader(TOKEN_KEY) String token,
-            @RequestParam(ASSETS_UPLOADED_KEY) MultipartFile[] assets,
-            @RequestParam(
-                    name = AssetUploadingEvent.COMMENT_KEY,
-                    required = false
-            ) String comment
+            HttpServletRequest request
     ) {
         if(isMe(id, token) && isAuthorizedUser(id, projectId)) {
             Release release = getReleaseIfAuthorized(releaseId);
             if(release != null) {
+                MultipartHttpServletRequest multipartRequest = WebUtils.getNativeRequest(request,
+                        MultipartHttpServletRequest.class);
+                if(multipartRequest == null)
+                    return failedResponse(WRONG_ASSETS_MESSAGE);
+                if(releasesHelper.exceedsStorageQuota(currentProject, Math.max(0, request.getContentLengthLong())))
+                    return failedResponse(STORAGE_QUOTA_EXCEEDED_MESSAGE);
                 switch (release.getStatus()) {
                     case New, Rejected, Alpha, Beta -> {
                         try {
-                            if(releasesHelper.uploadAssets(id, currentProject, releaseId, assets, comment))
+                            List<MultipartFile> assets = multipartRequest.getFiles(ASSETS_UPLOADED_KEY);
+                            if(assets.isEmpty())
+                                return failedResponse(WRONG_ASSETS_MESSAGE);
+                            if(releasesHelper.uploadAssets(id, currentProject, releaseId,
+                                    assets.toArray(new MultipartFile[0]),
+                                    multipartRequest.getParameter(AssetUploadingEvent.COMMENT_KEY)))
                                 return successResponse();
                             return failedResponse(WRONG_ASSETS_MESSAGE);
+                        } catch (StorageQuotaExceededException e) {
+                            return failedResponse(STORAGE_QUOTA_EXCEEDED_MESSAGE);
                         } catch (IOException e) {
                             return failedResponse(WRONG_PROCEDURE_MESSAGE);
                         }
@@ -279,6 +385,314 @@ public class ReleasesController extends ProjectManager {
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
     }
 
+    /**
+     * Method to upload the assets on a release streaming them, the multipart body of the request is parsed
+     * incrementally and each asset is written directly in its final location
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier where upload the assets
+     * @param token: the token of the user
+     * @param request: the multipart request with the assets, in the {@code "assets_uploaded"} parts, and the
+     *                 optional {@code "comment"} part
+     *
+     * @return the result of the request as {@link String}
+     *
+     * @apiNote this request, if successful, will make change the release status to {@link ReleaseStatus#Verifying}
+     */
+    @PostMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + STREAM_ASSETS_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/streamAssets", method = POST)
+    public String streamAssets(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @RequestHeader(TOKEN_KEY) String token,
+            HttpServletRequest request
+    ) {
+        if(!isMe(id, token) || !isAuthorizedUser(id, projectId))
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        Release release = getReleaseIfAuthorized(releaseId);
+        if(release == null)
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(!ServletFileUpload.isMultipartContent(request))
+            return failedResponse(WRONG_ASSETS_MESSAGE);
+        if(releasesHelper.exceedsStorageQuota(currentProject, Math.max(0, request.getContentLengthLong())))
+            return failedResponse(STORAGE_QUOTA_EXCEEDED_MESSAGE);
+        switch (release.getStatus()) {
+            case New, Rejected, Alpha, Beta -> {
+                try {
+                    if(releasesHelper.uploadAssets(id, currentProject, releaseId, request))
+                        return successResponse();
+                    return failedResponse(WRONG_ASSETS_MESSAGE);
+                } catch (StorageQuotaExceededException e) {
+                    return failedResponse(STORAGE_QUOTA_EXCEEDED_MESSAGE);
+                } catch (IOException e) {
+                    return failedResponse(WRONG_PROCEDURE_MESSAGE);
+                }
+            }
+            default -> {
+                return failedResponse(WRONG_PROCEDURE_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Method to create a resumable upload session for an asset, the content of the asset can be uploaded in ranged
+     * chunks and the upload can be resumed from the last offset received
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier where upload the asset
+     * @param token: the token of the user
+     * @param payload: payload of the request
+     * <pre>
+     *      {@code
+     *              {
+     *                  "name": "the name of the asset", -> [String]
+     *                  "asset_size": "the total size in bytes of the asset", -> [long]
+     *                  "asset_content_type": "the content type of the asset" -> [String]
+     *              }
+     *      }
+     * </pre>
+     *
+     * @return the result of the request as {@link String}
+     */
+    @PostMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + UPLOAD_SESSIONS_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/uploadSessions", method = POST)
+    public String createUploadSession(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestBody String payload
+    ) {
+        if(!isMe(id, token) || !isAuthorizedUser(id, projectId))
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        Release release = getReleaseIfAuthorized(releaseId);
+        if(release == null)
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(!canUploadAssets(release))
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        loadJsonHelper(payload);
+        String name = jsonHelper.getString(NAME_KEY, null);
+        long size = jsonHelper.getLong(ASSET_SIZE_KEY, 0);
+        if(name == null || name.isBlank() || size <= 0)
+            return failedResponse(WRONG_ASSETS_MESSAGE);
+        if(uploadSessions.exceedsMaxAssetSize(size))
+            return failedResponse(ASSETS_TOO_LARGE_MESSAGE);
+        if(releasesHelper.exceedsStorageQuota(currentProject, size))
+            return failedResponse(STORAGE_QUOTA_EXCEEDED_MESSAGE);
+        try {
+            UploadSession session = uploadSessions.createSession(releaseId, id, name, size,
+                    jsonHelper.getString(ASSET_CONTENT_TYPE_KEY, null));
+            return successResponse(session.toJSON());
+        } catch (IOException e) {
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        }
+    }
+
+    /**
+     * Method to upload a chunk of an asset in its upload session
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier where upload the asset
+     * @param sessionId: the identifier of the upload session
+     * @param token: the token of the user
+     * @param contentRange: the range of the chunk in the {@code bytes <start>-<end>/<total>} format
+     * @param request: the request which contains, as body, the content of the chunk
+     *
+     * @return the result of the request as {@link String}
+     *
+     * @apiNote the chunk must start at the current offset of the session, if the chunk is not accepted the current
+     * offset can be fetched to resume the upload
+     */
+    @PutMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + UPLOAD_SESSIONS_ENDPOINT + "/{" + UPLOAD_SESSION_IDENTIFIER_KEY + "}",
+            headers = {
+                    TOKEN_KEY,
+                    HttpHeaders.CONTENT_RANGE
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/uploadSessions/{upload_session_id}",
+            method = PUT)
+    public String uploadChunk(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @PathVariable(UPLOAD_SESSION_IDENTIFIER_KEY) String sessionId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestHeader(HttpHeaders.CONTENT_RANGE) String contentRange,
+            HttpServletRequest request
+    ) {
+        UploadSession session = getUploadSessionIfAuthorized(id, token, projectId, releaseId, sessionId);
+        if(session == null)
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        Matcher range = CONTENT_RANGE_PATTERN.matcher(contentRange.trim());
+        if(!range.matches())
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        try {
+            boolean accepted = uploadSessions.appendChunk(
+                    session,
+                    Long.parseLong(range.group(1)),
+                    Long.parseLong(range.group(2)),
+                    Long.parseLong(range.group(3)),
+                    request.getInputStream()
+            );
+            if(accepted)
+                return successResponse(session.toJSON());
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        } catch (NumberFormatException | IOException e) {
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        }
+    }
+
+    /**
+     * Method to get the status of an upload session, so the offset from resume the upload
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier where upload the asset
+     * @param sessionId: the identifier of the upload session
+     * @param token: the token of the user
+     *
+     * @return the result of the request as {@link String}
+     */
+    @GetMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + UPLOAD_SESSIONS_ENDPOINT + "/{" + UPLOAD_SESSION_IDENTIFIER_KEY + "}",
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/uploadSessions/{upload_session_id}",
+            method = GET)
+    public String getUploadSession(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @PathVariable(UPLOAD_SESSION_IDENTIFIER_KEY) String sessionId,
+            @RequestHeader(TOKEN_KEY) String token
+    ) {
+        UploadSession session = getUploadSessionIfAuthorized(id, token, projectId, releaseId, sessionId);
+        if(session == null)
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        return successResponse(session.toJSON());
+    }
+
+    /**
+     * Method to finalize the upload sessions of the assets, the assets are attached to the release
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier where upload the assets
+     * @param token: the token of the user
+     * @param payload: payload of the request
+     * <pre>
+     *      {@code
+     *              {
+     *                  "upload_sessions": "the identifiers of the completed upload sessions", -> [List of String]
+     *                  "comment": "the comment for the uploaded assets" -> [String]
+     *              }
+     *      }
+     * </pre>
+     *
+     * @return the result of the request as {@link String}
+     *
+     * @apiNote this request, if successful, will make change the release status to {@link ReleaseStatus#Verifying}
+     */
+    @PostMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + UPLOAD_SESSIONS_ENDPOINT + FINALIZE_UPLOAD_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/uploadSessions/finalize",
+            method = POST)
+    public String finalizeUploadSessions(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestBody String payload
+    ) {
+        if(!isMe(id, token) || !isAuthorizedUser(id, projectId))
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        Release release = getReleaseIfAuthorized(releaseId);
+        if(release == null)
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(!canUploadAssets(release))
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        loadJsonHelper(payload);
+        JSONArray jSessions = jsonHelper.getJSONArray(UPLOAD_SESSIONS_KEY, new JSONArray());
+        ArrayList<UploadSession> sessions = new ArrayList<>();
+        for (int j = 0; j < jSessions.length(); j++) {
+            UploadSession session = uploadSessions.getSession(jSessions.getString(j));
+            if(session == null || !session.getOwnerId().equals(id) || !session.getReleaseId().equals(releaseId)
+                    || !session.isCompleted()) {
+                return failedResponse(WRONG_ASSETS_MESSAGE);
+            }
+            sessions.add(session);
+        }
+        if(sessions.isEmpty())
+            return failedResponse(WRONG_ASSETS_MESSAGE);
+        if(uploadSessions.exceedsMaxUploadSize(sessions))
+            return failedResponse(ASSETS_TOO_LARGE_MESSAGE);
+        try {
+            releasesHelper.uploadAssets(id, currentProject, releaseId, sessions,
+                    jsonHelper.getString(AssetUploadingEvent.COMMENT_KEY, ""));
+            return successResponse();
+        } catch (StorageQuotaExceededException e) {
+            return failedResponse(STORAGE_QUOTA_EXCEEDED_MESSAGE);
+        } catch (IOException e) {
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        }
+    }
+
+    /**
+     * Method to get an upload session if the user is authorized to work on it
+     *
+     * @param id: the identifier of the user
+     * @param token: the token of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier where upload the asset
+     * @param sessionId: the identifier of the upload session
+     *
+     * @return the upload session as {@link UploadSession}, if the user is not authorized {@code null} instead
+     */
+    private UploadSession getUploadSessionIfAuthorized(String id, String token, String projectId, String releaseId,
+                                                       String sessionId) {
+        if(!isMe(id, token) || !amIProjectMember(id, projectId) || getReleaseIfAuthorized(releaseId) == null)
+            return null;
+        UploadSession session = uploadSessions.getSession(sessionId);
+        if(session == null || !session.getOwnerId().equals(id) || !session.getReleaseId().equals(releaseId))
+            return null;
+        return session;
+    }
+
+    /**
+     * Method to check whether new assets can be uploaded on a release
+     *
+     * @param release: the release to check
+     *
+     * @return whether new assets can be uploaded as boolean
+     */
+    private boolean canUploadAssets(Release release) {
+        return switch (release.getStatus()) {
+            case New, Rejected, Alpha, Beta -> true;
+            default -> false;
+        };
+    }
+
     /**
      * Method to comment the last assets uploaded on a release
      *
@@ -531,14 +945,18 @@ public class ReleasesController extends ProjectManager {
     }
 
     /**
-     * Method to create a report for a release
+     * Method to create a report for a release, the report will be rendered in background and the related job
+     * returned immediately
      *
      * @param id: the identifier of the user
      * @param projectId: the project identifier where the release is attached
      * @param releaseId: the release identifier from create the report
      * @param token: the token of the user
      *
-     * @return the result of the request as {@link String}, if successful includes the path to reach the report
+     * @return the result of the request as {@link String}, if successful includes the details of the job which is
+     * rendering the report
+     *
+     * @apiNote the requests made for the same release state will share the same job
      */
     @GetMapping(
             path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + CREATE_REPORT_ENDPOINT,
@@ -557,12 +975,9 @@ public class ReleasesController extends ProjectManager {
             Release release = getReleaseIfAuthorized(releaseId);
             if(release != null) {
                 if(!release.getReleaseEvents().isEmpty()) {
-                    ReportsProvider reportsProvider = new ReportsProvider();
                     try {
-                        return successResponse(new JSONObject()
-                                .put(RELEASE_REPORT_PATH, reportsProvider.getReleaseReport(release))
-                        );
-                    } catch (Exception e) {
+                        return successResponse(reportsGenerator.submitReport(release, me.getLanguage()).toJSON());
+                    } catch (RejectedExecutionException e) {
                         return failedResponse(WRONG_PROCEDURE_MESSAGE);
                     }
                 } else
@@ -573,6 +988,303 @@ public class ReleasesController extends ProjectManager {
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
     }
 
+    /**
+     * Method to get the status of a report job previously created with the
+     * {@link #createReport(String, String, String, String)} request
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier of the report
+     * @param jobId: the identifier of the job which is rendering the report
+     * @param token: the token of the user
+     *
+     * @return the result of the request as {@link String}, if successful includes the details of the job and, when
+     * completed, the path to reach the report
+     */
+    @GetMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + CREATE_REPORT_ENDPOINT + "/{" + REPORT_JOB_IDENTIFIER_KEY + "}",
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(
+            path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/createReport/{report_job_id}",
+            method = GET
+    )
+    public String getReportJob(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @PathVariable(REPORT_JOB_IDENTIFIER_KEY) String jobId,
+            @RequestHeader(TOKEN_KEY) String token
+    ) {
+        if(isMe(id, token) && amIProjectMember(id, projectId) && currentProject.hasRelease(releaseId)) {
+            ReportJob job = reportsGenerator.getJob(jobId);
+            if(job != null && job.getReleaseId().equals(releaseId)) {
+                if(job.getStatus() == ReportJobStatus.Failed)
+                    return failedResponse(WRONG_PROCEDURE_MESSAGE);
+                return successResponse(job.toJSON());
+            } else
+                return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        } else
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+    }
+
+    /**
+     * Method to download the report of a release, the report is streamed directly in the response
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier of the report
+     * @param token: the token of the user
+     * @param request: the request used to check whether the report held by the client is the current one
+     * @param response: the response where the report is transferred
+     *
+     * @return the report as {@link ResponseEntity}, {@code null} when the report held by the client is the current
+     * one and the {@link HttpStatus#NOT_MODIFIED} status has been already set
+     *
+     * @apiNote the entity tag of the report is derived from the state of the release, the partial downloads are
+     * supported with the {@code Range} header. The request never waits the rendering, if the report is not rendered
+     * yet will be returned, with the {@link HttpStatus#ACCEPTED} status, the job which is rendering it, so the client
+     * can poll it with the {@link #getReportJob(String, String, String, String, String)} request
+     */
+    @GetMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + DOWNLOAD_REPORT_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/downloadReport", method = GET)
+    public ResponseEntity<?> downloadReport(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @RequestHeader(TOKEN_KEY) String token,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        if(!isMe(id, token) || !amIProjectMember(id, projectId))
+            return failedReportResponse(HttpStatus.FORBIDDEN, NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        Release release = getReleaseIfAuthorized(releaseId);
+        if(release == null)
+            return failedReportResponse(HttpStatus.FORBIDDEN, NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(release.getReleaseEvents().isEmpty())
+            return failedReportResponse(HttpStatus.BAD_REQUEST, WRONG_PROCEDURE_MESSAGE);
+        String language = me.getLanguage();
+        String stateHash = reportsGenerator.computeStateHash(release, language);
+        String eTag = "\"" + stateHash + "\"";
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if(new ServletWebRequest(request, response).checkNotModified(eTag))
+            return null;
+        ReportJob job;
+        try {
+            job = reportsGenerator.submitReport(release, stateHash, language);
+        } catch (RejectedExecutionException e) {
+            return failedReportResponse(HttpStatus.SERVICE_UNAVAILABLE, WRONG_PROCEDURE_MESSAGE);
+        }
+        if(job.getStatus() == ReportJobStatus.Failed)
+            return failedReportResponse(HttpStatus.INTERNAL_SERVER_ERROR, WRONG_PROCEDURE_MESSAGE);
+        String reportPath = job.getReportPath();
+        if(reportPath == null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(successResponse(job.toJSON()));
+        }
+        Resource report = new BlobResource(blobStorage, reportPath);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename(report.getFilename())
+                        .build()
+                        .toString()
+                )
+                .body(report);
+    }
+
+    /**
+     * Method to create a failed response for the {@link #downloadReport(String, String, String, String,
+     * HttpServletRequest, HttpServletResponse)} and the {@link #downloadAsset(String, String, String, String, String,
+     * String, String, HttpServletRequest, HttpServletResponse)} requests
+     *
+     * @param status: the http status of the response
+     * @param error: the error occurred
+     *
+     * @return the failed response as {@link ResponseEntity}
+     */
+    private ResponseEntity<String> failedReportResponse(HttpStatus status, String error) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(failedResponse(error));
+    }
+
+    /**
+     * Method to download an asset uploaded on a release
+     *
+     * @param id: the identifier of the user
+     * @param projectId: the project identifier where the release is attached
+     * @param releaseId: the release identifier where the asset has been uploaded
+     * @param assetId: the identifier of the asset to download
+     * @param token: the token of the user
+     * @param range: the range of the asset requested, if any
+     * @param ifRange: the entity tag which the range requested is bound, if any
+     * @param request: the request used to check the conditional headers and whether the container supports the
+     * sendfile transfer
+     * @param response: the response where the asset is transferred
+     *
+     * @return the failed response as {@link ResponseEntity}, {@code null} when the asset has been transferred
+     *
+     * @apiNote the content of an asset never changes, so its checksum is used as entity tag and the asset can be
+     * cached indefinitely by the client. A single range per request is supported, the other ranges are ignored and the
+     * whole asset is transferred, as when the {@code If-Range} header does not match the entity tag of the asset. When
+     * the storage can serve the assets directly the client is redirected to a temporary url of the asset
+     */
+    @GetMapping(
+            path = "/{" + RELEASE_IDENTIFIER_KEY + "}" + DOWNLOAD_ASSET_ENDPOINT + "{" + ASSET_IDENTIFIER_KEY + "}",
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/{id}/projects/{project_id}/releases/{release_id}/assets/{asset_id}", method = GET)
+    public ResponseEntity<?> downloadAsset(
+            @PathVariable(IDENTIFIER_KEY) String id,
+            @PathVariable(PROJECT_IDENTIFIER_KEY) String projectId,
+            @PathVariable(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @PathVariable(ASSET_IDENTIFIER_KEY) String assetId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if(!isMe(id, token) || !amIProjectMember(id, projectId))
+            return failedReportResponse(HttpStatus.FORBIDDEN, NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        Release release = getReleaseIfAuthorized(releaseId);
+        if(release == null)
+            return failedReportResponse(HttpStatus.FORBIDDEN, NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        AssetUploaded asset = getAsset(release, assetId);
+        if(asset == null)
+            return failedReportResponse(HttpStatus.NOT_FOUND, WRONG_PROCEDURE_MESSAGE);
+        String assetPath = asset.getUrl();
+        BlobStat assetStat = blobStorage.stat(assetPath);
+        if(assetStat == null)
+            return failedReportResponse(HttpStatus.NOT_FOUND, WRONG_PROCEDURE_MESSAGE);
+        String checksum = asset.getChecksum();
+        if(checksum == null)
+            checksum = asset.getId();
+        String eTag = "\"" + checksum + "\"";
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        if(new ServletWebRequest(request, response).checkNotModified(eTag))
+            return null;
+        Path assetFile = blobStorage.getLocalPath(assetPath);
+        if(assetFile == null) {
+            String presignedUrl = blobStorage.presign(assetPath, asset.getName(), PRESIGNED_URL_EXPIRATION);
+            if(presignedUrl != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+                response.setStatus(HttpStatus.FOUND.value());
+                response.setHeader(HttpHeaders.LOCATION, presignedUrl);
+                return null;
+            }
+        }
+        long size = assetStat.size();
+        long start = 0;
+        long end = size - 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if(range != null && (ifRange == null || ifRange.trim().equals(eTag))) {
+            Matcher rangeMatcher = RANGE_PATTERN.matcher(range.trim());
+            if(rangeMatcher.matches()) {
+                String rangeStart = rangeMatcher.group(1);
+                String rangeEnd = rangeMatcher.group(2);
+                try {
+                    if(rangeStart.isEmpty()) {
+                        if(rangeEnd.isEmpty())
+                            return unsatisfiableRangeResponse(response, size);
+                        start = Math.max(0, size - Long.parseLong(rangeEnd));
+                    } else {
+                        start = Long.parseLong(rangeStart);
+                        if(!rangeEnd.isEmpty())
+                            end = Math.min(end, Long.parseLong(rangeEnd));
+                    }
+                } catch (NumberFormatException e) {
+                    return unsatisfiableRangeResponse(response, size);
+                }
+                if(start > end)
+                    return unsatisfiableRangeResponse(response, size);
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+        String contentType = asset.getContentType();
+        if(contentType == null)
+            contentType = DEFAULT_ASSET_CONTENT_TYPE;
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(asset.getName(), StandardCharsets.UTF_8)
+                .build()
+                .toString()
+        );
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if(length == 0)
+            return null;
+        if(assetFile == null) {
+            try (InputStream content = blobStorage.get(assetPath, start, end)) {
+                content.transferTo(response.getOutputStream());
+            }
+        } else if(Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, assetFile.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+        } else {
+            try (FileChannel channel = FileChannel.open(assetFile, StandardOpenOption.READ)) {
+                WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+                long position = start;
+                while (length > 0) {
+                    long transferred = channel.transferTo(position, length, output);
+                    if(transferred <= 0)
+                        break;
+                    position += transferred;
+                    length -= transferred;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method to create the response for a range of an asset which cannot be satisfied
+     *
+     * @param response: the response where set the status
+     * @param size: the size of the asset
+     *
+     * @return {@code null} because the response is directly completed
+     */
+    private ResponseEntity<?> unsatisfiableRangeResponse(HttpServletResponse response, long size) {
+        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        return null;
+    }
+
+    /**
+     * Method to get an asset uploaded on a release
+     *
+     * @param release: the release where the asset has been uploaded
+     * @param assetId: the identifier of the asset
+     *
+     * @return the asset as {@link AssetUploaded}, if not uploaded on the release {@code null} instead
+     */
+    private AssetUploaded getAsset(Release release, String assetId) {
+        for (ReleaseEvent event : release.getReleaseEvents())
+            if(event instanceof AssetUploadingEvent assetUploadingEvent)
+                for (AssetUploaded asset : assetUploadingEvent.getAssetsUploaded())
+                    if(asset.getId().equals(assetId))
+                        return asset;
+        return null;
+    }
+
     /**
      * Method to delete a release
      *
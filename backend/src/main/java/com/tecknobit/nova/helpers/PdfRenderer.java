@@ -0,0 +1,207 @@
+package com.tecknobit.nova.helpers;
+
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
+import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder.CacheStore;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.vladsch.flexmark.pdf.converter.PdfConverterExtension;
+import com.vladsch.flexmark.util.data.DataHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code PdfRenderer} class is useful to convert the html of the reports in PDF keeping warm, between the
+ * renders, the font metrics and the project logos already decoded. <br>
+ * The renders are executed on a bounded pool of slots, so the PDF conversions cannot saturate the server, and the
+ * metrics about the render time and the saturation of the pool are published on the {@link MeterRegistry}, exposed
+ * by the {@code metrics} endpoint of the actuator
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ReportsProvider
+ */
+@Component
+public class PdfRenderer {
+
+    /**
+     * {@code RENDER_SLOTS} the max number of the PDF renders executed at the same time
+     */
+    private static final int RENDER_SLOTS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * {@code LOGOS_CACHE_CAPACITY} the max number of the project logos kept decoded
+     */
+    private static final int LOGOS_CACHE_CAPACITY = 128;
+
+    /**
+     * {@code DEFAULT_LOGO_MIME_TYPE} the mime type used when the type of a logo cannot be detected
+     */
+    private static final String DEFAULT_LOGO_MIME_TYPE = "image/png";
+
+    /**
+     * {@code RENDERS_METRIC} the name of the metric of the time spent to render the reports
+     */
+    public static final String RENDERS_METRIC = "nova.reports.renders";
+
+    /**
+     * {@code SATURATED_RENDERS_METRIC} the name of the metric of the renders which waited for a free slot of the pool
+     */
+    public static final String SATURATED_RENDERS_METRIC = "nova.reports.renders.saturated";
+
+    /**
+     * {@code ACTIVE_RENDERS_METRIC} the name of the metric of the renders currently executing
+     */
+    public static final String ACTIVE_RENDERS_METRIC = "nova.reports.renders.active";
+
+    /**
+     * {@code WAITING_RENDERS_METRIC} the name of the metric of the renders waiting for a free slot of the pool
+     */
+    public static final String WAITING_RENDERS_METRIC = "nova.reports.renders.waiting";
+
+    /**
+     * {@code RENDER_SLOTS_METRIC} the name of the metric of the slots of the pool
+     */
+    public static final String RENDER_SLOTS_METRIC = "nova.reports.render.slots";
+
+    /**
+     * {@code renderSlots} the slots of the pool where the renders are executed
+     */
+    private final Semaphore renderSlots = new Semaphore(RENDER_SLOTS, true);
+
+    /**
+     * {@code fontsCache} the cache of the font metrics shared between all the renders
+     */
+    private final FSDefaultCacheStore fontsCache = new FSDefaultCacheStore();
+
+    /**
+     * {@code logos} the project logos already decoded as data uri, the key is the url of the logo
+     */
+    private final Map<String, String> logos = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > LOGOS_CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * {@code activeRenders} the number of the renders currently executing
+     */
+    private final AtomicInteger activeRenders = new AtomicInteger();
+
+    /**
+     * {@code renders} the timer of the renders completed
+     */
+    private final Timer renders;
+
+    /**
+     * {@code saturatedRenders} the counter of the renders which waited for a free slot of the pool
+     */
+    private final Counter saturatedRenders;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    private final BlobStorage blobStorage;
+
+    /**
+     * Constructor to init the {@link PdfRenderer} class
+     *
+     * @param blobStorage: the storage where the resources are stored
+     * @param meterRegistry: the registry where the metrics of the renders are published
+     */
+    @Autowired
+    public PdfRenderer(BlobStorage blobStorage, MeterRegistry meterRegistry) {
+        this.blobStorage = blobStorage;
+        renders = Timer.builder(RENDERS_METRIC)
+                .description("The time spent to render the reports in PDF")
+                .register(meterRegistry);
+        saturatedRenders = Counter.builder(SATURATED_RENDERS_METRIC)
+                .description("The renders which waited for a free slot of the pool")
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_RENDERS_METRIC, activeRenders, AtomicInteger::get)
+                .description("The renders currently executing")
+                .register(meterRegistry);
+        Gauge.builder(WAITING_RENDERS_METRIC, renderSlots, Semaphore::getQueueLength)
+                .description("The renders waiting for a free slot of the pool")
+                .register(meterRegistry);
+        Gauge.builder(RENDER_SLOTS_METRIC, () -> RENDER_SLOTS)
+                .description("The slots of the pool where the renders are executed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Method to convert the html of a report in PDF
+     *
+     * @param html: the html to convert
+     * @param output: the stream where write the PDF
+     *
+     * @throws InterruptedException when the thread is interrupted waiting for a free slot of the pool
+     */
+    public void render(String html, OutputStream output) throws InterruptedException {
+        if(!renderSlots.tryAcquire()) {
+            saturatedRenders.increment();
+            renderSlots.acquire();
+        }
+        activeRenders.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            PdfRendererBuilder builder = new PdfRendererBuilder();
+            builder.useFastMode();
+            builder.useCacheStore(CacheStore.PDF_FONT_METRICS, fontsCache);
+            PdfConverterExtension.exportToPdf(output, html, "", builder, DataHolder.NULL);
+        } finally {
+            renders.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            activeRenders.decrementAndGet();
+            renderSlots.release();
+        }
+    }
+
+    /**
+     * Method to get a project logo as data uri, so the logo is decoded just once and not read from the storage on
+     * every render
+     *
+     * @param logoUrl: the url of the logo
+     *
+     * @return the logo as data uri {@link String}, if the logo cannot be read its file uri, when stored on the local
+     * disk, or an empty uri instead
+     *
+     * @apiNote the logos are cached by url, an edited logo has a new url so the cached one is never stale
+     */
+    public String getLogo(String logoUrl) {
+        synchronized (logos) {
+            String logo = logos.get(logoUrl);
+            if(logo != null)
+                return logo;
+        }
+        String logo;
+        try (InputStream logoContent = blobStorage.get(logoUrl)) {
+            String mimeType = URLConnection.guessContentTypeFromName(logoUrl);
+            if(mimeType == null)
+                mimeType = DEFAULT_LOGO_MIME_TYPE;
+            logo = "data:" + mimeType + ";base64," + Base64.getEncoder().encodeToString(logoContent.readAllBytes());
+        } catch (IOException | IllegalArgumentException e) {
+            Path logoPath = blobStorage.getLocalPath(logoUrl);
+            return logoPath != null ? "file:" + logoPath : "";
+        }
+        synchronized (logos) {
+            logos.put(logoUrl, logo);
+        }
+        return logo;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.tecknobit.nova.helpers;
+
+import com.tecknobit.novacore.records.release.Release;
+import com.tecknobit.novacore.records.release.events.ReleaseEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@code ReportFragmentsCache} class is useful to cache the html fragments rendered for each event of the
+ * releases, so when a report is rendered again only the fragments of the events changed, or of the new events, are
+ * rendered. <br>
+ * Each fragment is bound to the hash of the state of its event, so a fragment is invalidated as soon as the related
+ * event changes, for example when the comments of its tags are filled. An event has a fragment for each language of
+ * the reports rendered, and only the fragments of the events used most recently are kept
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ReportsProvider
+ */
+@Component
+public class ReportFragmentsCache {
+
+    /**
+     * {@code FRAGMENTS_CACHE_CAPACITY} the max number of the events whose fragments are kept
+     */
+    private static final int FRAGMENTS_CACHE_CAPACITY = 4096;
+
+    /**
+     * {@code reportsIndex} the index of the reports used to compute the hashes of the events
+     */
+    private final ReportsIndex reportsIndex;
+
+    /**
+     * {@code fragments} the fragments rendered, the key is the identifier of the related event and the fragments of
+     * the event are keyed by their language, the events used least recently are evicted when the
+     * {@link #FRAGMENTS_CACHE_CAPACITY} is exceeded
+     */
+    private final Map<String, Map<String, EventFragment>> fragments = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Map<String, EventFragment>> eldest) {
+            return size() > FRAGMENTS_CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * Constructor to init the {@link ReportFragmentsCache} class
+     *
+     * @param reportsIndex: the index of the reports used to compute the hashes of the events
+     */
+    @Autowired
+    public ReportFragmentsCache(ReportsIndex reportsIndex) {
+        this.reportsIndex = reportsIndex;
+    }
+
+    /**
+     * Method to get the fragment of an event, if the cached fragment is not related to the current state of the
+     * event will be rendered again
+     *
+     * @param event: the event from get its fragment
+     * @param language: the language of the fragment
+     * @param renderer: the renderer to use when the fragment has to be rendered
+     *
+     * @return the fragment of the event as html {@link String}
+     */
+    public String getFragment(ReleaseEvent event, String language, Function<ReleaseEvent, String> renderer) {
+        String eventHash = reportsIndex.computeEventHash(event);
+        String eventId = event.getId();
+        synchronized (fragments) {
+            Map<String, EventFragment> eventFragments = fragments.get(eventId);
+            if(eventFragments != null) {
+                EventFragment fragment = eventFragments.get(language);
+                if(fragment != null && fragment.eventHash().equals(eventHash))
+                    return fragment.html();
+            }
+        }
+        EventFragment fragment = new EventFragment(eventHash, renderer.apply(event));
+        synchronized (fragments) {
+            fragments.computeIfAbsent(eventId, key -> new HashMap<>()).put(language, fragment);
+        }
+        return fragment.html();
+    }
+
+    /**
+     * Method to evict the fragments of an event, in all the languages
+     *
+     * @param eventId: the identifier of the event
+     */
+    public void evictFragment(String eventId) {
+        synchronized (fragments) {
+            fragments.remove(eventId);
+        }
+    }
+
+    /**
+     * Method to evict the fragments of all the events of a release
+     *
+     * @param release: the release from evict the fragments of its events
+     */
+    public void evictFragments(Release release) {
+        for (ReleaseEvent event : release.getReleaseEvents())
+            evictFragment(event.getId());
+    }
+
+    /**
+     * The {@code EventFragment} record is useful to represent a fragment rendered
+     *
+     * @param eventHash: the hash of the state of the event when the fragment has been rendered
+     * @param html: the html of the fragment
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private record EventFragment(String eventHash, String html) {
+    }
+
+}
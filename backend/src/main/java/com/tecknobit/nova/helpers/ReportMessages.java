@@ -0,0 +1,126 @@
+package com.tecknobit.nova.helpers;
+
+import com.tecknobit.apimanager.apis.ResourcesUtils;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.tecknobit.equinox.environment.records.EquinoxUser.DEFAULT_LANGUAGE;
+
+/**
+ * The {@code ReportMessages} class is useful to provide the messages shown in the reports in the language of the
+ * user who requested them. <br>
+ * The messages of all the languages are loaded just once from the Mantis resources file and each bundle is
+ * immutable, so the bundles are shared between all the reports rendered without any lock
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ReportsProvider
+ */
+public final class ReportMessages {
+
+    /**
+     * {@code MANTIS_RESOURCES_FILE} the resource file where the messages are stored
+     */
+    private static final String MANTIS_RESOURCES_FILE = "resources.mantis";
+
+    /**
+     * {@code REPORT_MESSAGES_KEYS} the keys of the messages used in the reports
+     */
+    private static final List<String> REPORT_MESSAGES_KEYS = List.of(
+            "creation_date_key",
+            "new_asset_has_been_uploaded_key",
+            "asset_has_been_approved_key",
+            "alpha_timeline_message_key",
+            "beta_timeline_message_key",
+            "latest_timeline_message_key"
+    );
+
+    /**
+     * {@code BUNDLES} the bundles of the messages, the key is the language of the bundle
+     */
+    private static final Map<String, ReportMessages> BUNDLES;
+
+    static {
+        try {
+            JSONObject jResources = new JSONObject(ResourcesUtils.getResourceContent(MANTIS_RESOURCES_FILE,
+                    ReportMessages.class));
+            JSONObject jDefaultMessages = jResources.getJSONObject(DEFAULT_LANGUAGE);
+            HashMap<String, ReportMessages> bundles = new HashMap<>();
+            for (String language : jResources.keySet()) {
+                Object jLanguage = jResources.get(language);
+                if(!(jLanguage instanceof JSONObject jMessages) || !jMessages.has(REPORT_MESSAGES_KEYS.get(0)))
+                    continue;
+                HashMap<String, String> messages = new HashMap<>();
+                for (String key : REPORT_MESSAGES_KEYS)
+                    messages.put(key, jMessages.optString(key, jDefaultMessages.optString(key, key)));
+                bundles.put(language, new ReportMessages(language, messages));
+            }
+            BUNDLES = Map.copyOf(bundles);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * {@code language} the language of the bundle
+     */
+    private final String language;
+
+    /**
+     * {@code messages} the messages of the bundle, the key is the key of the message
+     */
+    private final Map<String, String> messages;
+
+    /**
+     * Constructor to init the {@link ReportMessages} class
+     *
+     * @param language: the language of the bundle
+     * @param messages: the messages of the bundle
+     */
+    private ReportMessages(String language, Map<String, String> messages) {
+        this.language = language;
+        this.messages = Map.copyOf(messages);
+    }
+
+    /**
+     * Method to get the bundle of a language
+     *
+     * @param language: the language of the bundle to get
+     *
+     * @return the bundle as {@link ReportMessages}, if the language is not supported the bundle of the
+     * {@link com.tecknobit.equinox.environment.records.EquinoxUser#DEFAULT_LANGUAGE} instead
+     */
+    public static ReportMessages getBundle(String language) {
+        ReportMessages bundle = null;
+        if(language != null)
+            bundle = BUNDLES.get(language);
+        if(bundle == null)
+            bundle = BUNDLES.get(DEFAULT_LANGUAGE);
+        return bundle;
+    }
+
+    /**
+     * Method to get {@link #language} instance <br>
+     * No-any params required
+     *
+     * @return {@link #language} instance as {@link String}
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Method to get a message of the bundle
+     *
+     * @param key: the key of the message
+     *
+     * @return the message as {@link String}
+     */
+    public String getMessage(String key) {
+        return messages.get(key);
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.tecknobit.nova.helpers;
+
+import com.tecknobit.apimanager.apis.ResourcesUtils;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.tecknobit.nova.helpers.ReportsProvider.*;
+
+/**
+ * The {@code ReportTemplate} class is useful to compile, just once, the report template in its literal segments and
+ * in the slots where place the real values of a release, so a report is assembled with a single pass over the
+ * segments. <br>
+ * The instance is immutable and shared between all the reports rendered, as the markdown parser and the html
+ * renderer used to convert the assembled report
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public final class ReportTemplate {
+
+    /**
+     * {@code REPORT_TEMPLATE_FILE} the resource file of the report template
+     */
+    private static final String REPORT_TEMPLATE_FILE = "report_template.md";
+
+    /**
+     * {@code TEMPLATE_TAGS} the tags which can be placed in the report template
+     */
+    private static final List<String> TEMPLATE_TAGS = List.of(
+            PROJECT_LOGO_TAG,
+            PROJECT_NAME_TAG,
+            RELEASE_VERSION_TAG,
+            RELEASE_CREATION_DATE_TAG,
+            RELEASE_STATUS_TAG,
+            RELEASE_NOTES_TAG,
+            RELEASE_EVENTS_TAG
+    );
+
+    /**
+     * {@code INSTANCE} the shared instance of the compiled template
+     */
+    private static final ReportTemplate INSTANCE;
+
+    static {
+        try {
+            INSTANCE = new ReportTemplate(ResourcesUtils.getResourceContent(REPORT_TEMPLATE_FILE,
+                    ReportTemplate.class));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * {@code parser} the shared markdown parser
+     */
+    private final Parser parser;
+
+    /**
+     * {@code renderer} the shared html renderer
+     */
+    private final HtmlRenderer renderer;
+
+    /**
+     * {@code segments} the segments of the template compiled
+     */
+    private final List<TemplateSegment> segments;
+
+    /**
+     * {@code literalsLength} the total length of the literal segments, used to presize the report assembled
+     */
+    private final int literalsLength;
+
+    /**
+     * Constructor to init the {@link ReportTemplate} class
+     *
+     * @param template: the content of the template to compile
+     */
+    private ReportTemplate(String template) {
+        MutableDataSet options = new MutableDataSet();
+        parser = Parser
+                .builder(options)
+                .build();
+        renderer = HtmlRenderer
+                .builder(options)
+                .build();
+        ArrayList<TemplateSegment> segments = new ArrayList<>();
+        int literalsLength = 0;
+        int index = 0;
+        while (index < template.length()) {
+            int tagIndex = -1;
+            String tag = null;
+            for (String templateTag : TEMPLATE_TAGS) {
+                int currentTagIndex = template.indexOf(templateTag, index);
+                if(currentTagIndex != -1 && (tagIndex == -1 || currentTagIndex < tagIndex)) {
+                    tagIndex = currentTagIndex;
+                    tag = templateTag;
+                }
+            }
+            if(tag == null) {
+                segments.add(new TemplateSegment(template.substring(index), false));
+                literalsLength += template.length() - index;
+                break;
+            }
+            if(tagIndex > index) {
+                segments.add(new TemplateSegment(template.substring(index, tagIndex), false));
+                literalsLength += tagIndex - index;
+            }
+            segments.add(new TemplateSegment(tag, true));
+            index = tagIndex + tag.length();
+        }
+        this.segments = Collections.unmodifiableList(segments);
+        this.literalsLength = literalsLength;
+    }
+
+    /**
+     * Method to get the shared instance of the template <br>
+     * No-any params required
+     *
+     * @return the shared instance as {@link ReportTemplate}
+     */
+    public static ReportTemplate getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Method to assemble the report placing the values in the related slots and to convert it in html
+     *
+     * @param values: the values to place in the slots, the key is the tag of the slot
+     *
+     * @return the report assembled as html {@link String}
+     *
+     * @apiNote the values are appended as they are, so they can safely contain any character
+     */
+    public String render(Map<String, String> values) {
+        int valuesLength = 0;
+        for (String value : values.values())
+            if(value != null)
+                valuesLength += value.length();
+        StringBuilder report = new StringBuilder(literalsLength + valuesLength);
+        for (TemplateSegment segment : segments) {
+            if(segment.slot()) {
+                String value = values.get(segment.content());
+                if(value != null)
+                    report.append(value);
+            } else
+                report.append(segment.content());
+        }
+        return renderer.render(parser.parse(report.toString()));
+    }
+
+    /**
+     * The {@code TemplateSegment} record is useful to represent a segment of the template compiled
+     *
+     * @param content: the literal content of the segment or the tag of the slot
+     * @param slot: whether the segment is a slot where place a real value
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private record TemplateSegment(String content, boolean slot) {
+    }
+
+}
@@ -0,0 +1,501 @@
+package com.tecknobit.nova.helpers;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.novacore.records.release.Release;
+import jakarta.annotation.PreDestroy;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.tecknobit.equinox.environment.controllers.EquinoxController.generateIdentifier;
+import static com.tecknobit.novacore.records.release.Release.*;
+
+/**
+ * The {@code ReportsGenerator} class is useful to generate the reports of the releases in background, so the
+ * requests are not blocked while the reports are rendered. <br>
+ * The reports requested for the same release state share the same {@link ReportJob}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ReportsProvider
+ */
+@Service
+public class ReportsGenerator {
+
+    /**
+     * {@code REPORT_WORKERS} the number of the workers used to render the reports
+     */
+    private static final int REPORT_WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * {@code REPORTS_QUEUE_CAPACITY} the max number of the reports waiting to be rendered
+     */
+    private static final int REPORTS_QUEUE_CAPACITY = 64;
+
+    /**
+     * {@code JOBS_EXPIRATION} the time after a completed job is removed from the {@link #jobs}
+     */
+    private static final long JOBS_EXPIRATION = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * {@code ReportJobStatus} list of possible statuses of a {@link ReportJob}
+     */
+    public enum ReportJobStatus {
+
+        /**
+         * {@code Pending} status of the job when is waiting to be rendered
+         */
+        Pending,
+
+        /**
+         * {@code Running} status of the job when the report is currently rendering
+         */
+        Running,
+
+        /**
+         * {@code Completed} status of the job when the report has been created
+         */
+        Completed,
+
+        /**
+         * {@code Failed} status of the job when an error occurred during the rendering of the report
+         */
+        Failed
+
+    }
+
+    /**
+     * {@code reportsIndex} the index of the reports already rendered
+     */
+    private final ReportsIndex reportsIndex;
+
+    /**
+     * {@code fragmentsCache} the cache of the html fragments rendered for the events of the releases
+     */
+    private final ReportFragmentsCache fragmentsCache;
+
+    /**
+     * {@code pdfRenderer} the renderer used to convert the reports in PDF
+     */
+    private final PdfRenderer pdfRenderer;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    private final BlobStorage blobStorage;
+
+    /**
+     * {@code jobs} the jobs submitted, the key is the identifier of the job
+     */
+    private final ConcurrentHashMap<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * {@code pendingJobs} the jobs not completed yet, the key is the hash of the release state the job is rendering
+     */
+    private final ConcurrentHashMap<String, ReportJob> pendingJobs = new ConcurrentHashMap<>();
+
+    /**
+     * {@code reportsExecutor} the bounded executor used to render the reports
+     */
+    private final ThreadPoolExecutor reportsExecutor = new ThreadPoolExecutor(
+            REPORT_WORKERS,
+            REPORT_WORKERS,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(REPORTS_QUEUE_CAPACITY),
+            new ReportsThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    /**
+     * {@code exportPool} the pool, sized to the available cores, used to render the reports exported
+     */
+    private final ForkJoinPool exportPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Constructor to init the {@link ReportsGenerator} service
+     *
+     * @param reportsIndex: the index of the reports already rendered
+     * @param fragmentsCache: the cache of the html fragments rendered for the events of the releases
+     * @param pdfRenderer: the renderer used to convert the reports in PDF
+     * @param blobStorage: the storage where the resources are stored
+     */
+    @Autowired
+    public ReportsGenerator(ReportsIndex reportsIndex, ReportFragmentsCache fragmentsCache, PdfRenderer pdfRenderer,
+                            BlobStorage blobStorage) {
+        this.reportsIndex = reportsIndex;
+        this.fragmentsCache = fragmentsCache;
+        this.pdfRenderer = pdfRenderer;
+        this.blobStorage = blobStorage;
+    }
+
+    /**
+     * Method to submit a new report to render, if a job for the same release state is already pending will be
+     * returned that job instead
+     *
+     * @param release: the release on which create its report
+     * @param language: the language of the report
+     *
+     * @return the job which is rendering the report as {@link ReportJob}
+     *
+     * @throws RejectedExecutionException when the reports queue is full
+     * @apiNote if the report for the current release state has been already rendered will be returned a
+     * {@link ReportJobStatus#Completed} job without rendering it again
+     */
+    @Wrapper
+    public ReportJob submitReport(Release release, String language) {
+        return submitReport(release, computeStateHash(release, language), language);
+    }
+
+    /**
+     * Method to submit a new report to render, if a job for the same release state is already pending will be
+     * returned that job instead
+     *
+     * @param release: the release on which create its report
+     * @param stateHash: the hash of the current state of the release
+     * @param language: the language of the report
+     *
+     * @return the job which is rendering the report as {@link ReportJob}
+     *
+     * @throws RejectedExecutionException when the reports queue is full
+     * @apiNote if the report for the current release state has been already rendered will be returned a
+     * {@link ReportJobStatus#Completed} job without rendering it again
+     */
+    @Wrapper
+    public ReportJob submitReport(Release release, String stateHash, String language) {
+        return submitReport(release, stateHash, language, reportsExecutor);
+    }
+
+    /**
+     * Method to submit a new report to render, if a job for the same release state is already pending will be
+     * returned that job instead
+     *
+     * @param release: the release on which create its report
+     * @param stateHash: the hash of the current state of the release
+     * @param language: the language of the report
+     * @param executor: the executor where render the report
+     *
+     * @return the job which is rendering the report as {@link ReportJob}
+     *
+     * @throws RejectedExecutionException when the executor cannot accept the report
+     * @apiNote if the report for the current release state has been already rendered will be returned a
+     * {@link ReportJobStatus#Completed} job without rendering it again
+     */
+    private ReportJob submitReport(Release release, String stateHash, String language, Executor executor) {
+        removeExpiredJobs();
+        String releaseId = release.getId();
+        String indexedReport = reportsIndex.getReport(releaseId, language, stateHash);
+        if(indexedReport != null) {
+            ReportJob job = new ReportJob(releaseId);
+            job.complete(indexedReport);
+            jobs.put(job.getId(), job);
+            return job;
+        }
+        return pendingJobs.computeIfAbsent(stateHash, key -> {
+            ReportJob newJob = new ReportJob(releaseId);
+            executor.execute(() -> renderReport(newJob, release, stateHash, language));
+            jobs.put(newJob.getId(), newJob);
+            return newJob;
+        });
+    }
+
+    /**
+     * Method to render the report of a job
+     *
+     * @param job: the job to execute
+     * @param release: the release on which create its report
+     * @param stateHash: the hash of the release state the job is rendering
+     * @param language: the language of the report
+     */
+    private void renderReport(ReportJob job, Release release, String stateHash, String language) {
+        job.setStatus(ReportJobStatus.Running);
+        try {
+            ReportsProvider reportsProvider = new ReportsProvider(reportsIndex, fragmentsCache, pdfRenderer,
+                    blobStorage);
+            job.complete(reportsProvider.getReleaseReport(release, stateHash, language));
+        } catch (Exception e) {
+            job.fail();
+        } finally {
+            pendingJobs.remove(stateHash, job);
+        }
+    }
+
+    /**
+     * Method to export the reports of a list of releases in a ZIP archive. The reports are submitted immediately and
+     * rendered in parallel on the {@link #exportPool}, then each report is written in the archive as soon as is
+     * ready, so the reports are never held all in memory
+     *
+     * @param releases: the releases to export
+     * @param language: the language of the reports
+     *
+     * @return the body which writes the archive as {@link StreamingResponseBody}
+     *
+     * @apiNote the releases without events and the reports failed to render are not included in the archive
+     */
+    public StreamingResponseBody exportReports(List<Release> releases, String language) {
+        LinkedBlockingQueue<ReportJob> terminatedJobs = new LinkedBlockingQueue<>();
+        int submittedJobs = 0;
+        for (Release release : releases) {
+            if(release.getReleaseEvents().isEmpty())
+                continue;
+            ReportJob job = submitReport(release, computeStateHash(release, language), language, exportPool);
+            job.termination.thenRun(() -> terminatedJobs.add(job));
+            submittedJobs++;
+        }
+        int totalJobs = submittedJobs;
+        return outputStream -> {
+            try (ZipOutputStream archive = new ZipOutputStream(outputStream)) {
+                for (int j = 0; j < totalJobs; j++) {
+                    ReportJob job = terminatedJobs.take();
+                    if(job.getStatus() != ReportJobStatus.Completed)
+                        continue;
+                    String reportPath = job.getReportPath();
+                    archive.putNextEntry(new ZipEntry(reportPath.substring(reportPath.lastIndexOf('/') + 1)));
+                    try (InputStream report = blobStorage.get(reportPath)) {
+                        report.transferTo(archive);
+                    }
+                    archive.closeEntry();
+                    archive.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        };
+    }
+
+    /**
+     * Method to compute the hash of the current state of a release
+     *
+     * @param release: the release from compute the hash
+     * @param language: the language of the report
+     *
+     * @return the hash of the state of the release as {@link String}
+     */
+    @Wrapper
+    public String computeStateHash(Release release, String language) {
+        return reportsIndex.computeStateHash(release, language);
+    }
+
+    /**
+     * Method to get a job previously submitted
+     *
+     * @param jobId: the identifier of the job
+     *
+     * @return the job as {@link ReportJob}, if not exists or expired {@code null} instead
+     */
+    public ReportJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * Method to remove from the {@link #jobs} the completed jobs which are expired <br>
+     * No-any params required
+     */
+    private void removeExpiredJobs() {
+        long expirationThreshold = System.currentTimeMillis() - JOBS_EXPIRATION;
+        jobs.values().removeIf(job -> job.isTerminated() && job.getLastUpdate() < expirationThreshold);
+    }
+
+    /**
+     * Method to stop the {@link #reportsExecutor} and the {@link #exportPool} when the service is destroyed <br>
+     * No-any params required
+     */
+    @PreDestroy
+    public void shutdown() {
+        reportsExecutor.shutdownNow();
+        exportPool.shutdownNow();
+    }
+
+    /**
+     * The {@code ReportJob} class is useful to represent a report rendering requested
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static final class ReportJob {
+
+        /**
+         * {@code id} the identifier of the job
+         */
+        private final String id;
+
+        /**
+         * {@code releaseId} the identifier of the release of the report
+         */
+        private final String releaseId;
+
+        /**
+         * {@code status} the current status of the job
+         */
+        private volatile ReportJobStatus status;
+
+        /**
+         * {@code reportPath} the pathname of the report created
+         */
+        private volatile String reportPath;
+
+        /**
+         * {@code lastUpdate} when the job has been updated the last time
+         */
+        private volatile long lastUpdate;
+
+        /**
+         * {@code termination} the future completed when the job is {@link ReportJobStatus#Completed} or
+         * {@link ReportJobStatus#Failed}, so the callers can be notified without waiting for the job
+         */
+        private final CompletableFuture<Void> termination = new CompletableFuture<>();
+
+        /**
+         * Constructor to init the {@link ReportJob} class
+         *
+         * @param releaseId: the identifier of the release of the report
+         */
+        private ReportJob(String releaseId) {
+            id = generateIdentifier();
+            this.releaseId = releaseId;
+            setStatus(ReportJobStatus.Pending);
+        }
+
+        /**
+         * Method to get {@link #id} instance <br>
+         * No-any params required
+         *
+         * @return {@link #id} instance as {@link String}
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Method to get {@link #releaseId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #releaseId} instance as {@link String}
+         */
+        public String getReleaseId() {
+            return releaseId;
+        }
+
+        /**
+         * Method to get {@link #status} instance <br>
+         * No-any params required
+         *
+         * @return {@link #status} instance as {@link ReportJobStatus}
+         */
+        public ReportJobStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * Method to set the {@link #status} instance
+         *
+         * @param status: the status to set
+         */
+        private void setStatus(ReportJobStatus status) {
+            this.status = status;
+            lastUpdate = System.currentTimeMillis();
+        }
+
+        /**
+         * Method to set the job as {@link ReportJobStatus#Completed}
+         *
+         * @param reportPath: the pathname of the report created
+         */
+        private void complete(String reportPath) {
+            this.reportPath = reportPath;
+            setStatus(ReportJobStatus.Completed);
+            termination.complete(null);
+        }
+
+        /**
+         * Method to set the job as {@link ReportJobStatus#Failed} <br>
+         * No-any params required
+         */
+        private void fail() {
+            setStatus(ReportJobStatus.Failed);
+            termination.complete(null);
+        }
+
+        /**
+         * Method to get {@link #reportPath} instance <br>
+         * No-any params required
+         *
+         * @return {@link #reportPath} instance as {@link String}
+         */
+        public String getReportPath() {
+            return reportPath;
+        }
+
+        /**
+         * Method to get {@link #lastUpdate} instance <br>
+         * No-any params required
+         *
+         * @return {@link #lastUpdate} instance as long
+         */
+        public long getLastUpdate() {
+            return lastUpdate;
+        }
+
+        /**
+         * Method to get whether the job is terminated <br>
+         * No-any params required
+         *
+         * @return whether the job is {@link ReportJobStatus#Completed} or {@link ReportJobStatus#Failed} as boolean
+         */
+        public boolean isTerminated() {
+            return status == ReportJobStatus.Completed || status == ReportJobStatus.Failed;
+        }
+
+        /**
+         * Method to get the job details formatted as JSON <br>
+         * No-any params required
+         *
+         * @return the job details as {@link JSONObject}
+         */
+        public JSONObject toJSON() {
+            JSONObject jJob = new JSONObject()
+                    .put(REPORT_JOB_IDENTIFIER_KEY, id)
+                    .put(RELEASE_IDENTIFIER_KEY, releaseId)
+                    .put(REPORT_JOB_STATUS_KEY, status);
+            if(status == ReportJobStatus.Completed)
+                jJob.put(RELEASE_REPORT_PATH, reportPath);
+            return jJob;
+        }
+
+    }
+
+    /**
+     * The {@code ReportsThreadFactory} class is useful to create the daemon threads used to render the reports
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @see ThreadFactory
+     */
+    private static final class ReportsThreadFactory implements ThreadFactory {
+
+        /**
+         * {@code threadsCounter} the counter of the threads created
+         */
+        private final AtomicInteger threadsCounter = new AtomicInteger();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "nova-reports-" + threadsCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
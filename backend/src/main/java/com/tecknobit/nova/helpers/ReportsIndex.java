@@ -0,0 +1,386 @@
+package com.tecknobit.nova.helpers;
+
+import com.tecknobit.nova.helpers.resources.NovaResourcesManager;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.novacore.records.project.Project;
+import com.tecknobit.novacore.records.release.Release;
+import com.tecknobit.novacore.records.release.events.*;
+import com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@code ReportsIndex} class is useful to keep the index of the reports already rendered, each report is
+ * indexed by the hash of the state of the related release, so a report is rendered again only when the state of the
+ * release changed. A release has a report for each language requested <br>
+ * The index is held in memory, so a report indexed is served without accessing the {@link BlobStorage}, and is
+ * periodically persisted in the local reports directory, when changed, to survive the restarts of the server. The
+ * reports of the index persisted are checked in the {@link BlobStorage} when the index is loaded, so a report deleted
+ * before the last changes were persisted is rendered again
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NovaResourcesManager
+ */
+@Component
+public class ReportsIndex implements NovaResourcesManager {
+
+    /**
+     * {@code REPORTS_INDEX_FILE} the file where the index is persisted
+     */
+    private static final String REPORTS_INDEX_FILE = RESOURCES_REPORTS_PATH + "reports_index.json";
+
+    /**
+     * {@code STATE_HASH_KEY} the key for the <b>"state_hash"</b> field
+     */
+    private static final String STATE_HASH_KEY = "state_hash";
+
+    /**
+     * {@code REPORT_PATH_KEY} the key for the <b>"report_path"</b> field
+     */
+    private static final String REPORT_PATH_KEY = "report_path";
+
+    /**
+     * {@code FIELDS_SEPARATOR} the separator used between the fields hashed
+     */
+    private static final char FIELDS_SEPARATOR = '\u0000';
+
+    /**
+     * {@code REPORT_KEY_SEPARATOR} the separator between the identifier of the release and the language in the keys
+     * of the reports indexed
+     */
+    private static final String REPORT_KEY_SEPARATOR = ":";
+
+    /**
+     * {@code reports} the reports indexed, the key is the identifier of the release followed by the language of the
+     * report
+     */
+    private final ConcurrentHashMap<String, IndexedReport> reports = new ConcurrentHashMap<>();
+
+    /**
+     * {@code indexChanged} whether the index has been changed after it has been persisted the last time
+     */
+    private final AtomicBoolean indexChanged = new AtomicBoolean();
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    @Autowired
+    private BlobStorage blobStorage;
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
+    /**
+     * Method to load the index persisted, the reports which do not exist anymore in the {@link BlobStorage} are not
+     * loaded <br>
+     * No-any params required
+     */
+    @PostConstruct
+    public void loadIndex() {
+        File indexFile = new File(REPORTS_INDEX_FILE);
+        if(!indexFile.exists())
+            return;
+        try {
+            JSONObject jIndex = new JSONObject(Files.readString(indexFile.toPath()));
+            for (String reportKey : jIndex.keySet()) {
+                JSONObject jReport = jIndex.getJSONObject(reportKey);
+                String reportPath = jReport.getString(REPORT_PATH_KEY);
+                if(!reportKey.contains(REPORT_KEY_SEPARATOR)) {
+                    deleteReportFile(reportPath);
+                    indexChanged.set(true);
+                    continue;
+                }
+                if(blobStorage.stat(reportPath) == null) {
+                    indexChanged.set(true);
+                    continue;
+                }
+                reports.put(reportKey, new IndexedReport(
+                        jReport.getString(STATE_HASH_KEY),
+                        reportPath
+                ));
+            }
+        } catch (Exception e) {
+            reports.clear();
+        }
+    }
+
+    /**
+     * Method to get the report already rendered for the current state of a release
+     *
+     * @param releaseId: the identifier of the release
+     * @param language: the language of the report
+     * @param stateHash: the hash of the current state of the release
+     *
+     * @return the pathname of the report as {@link String}, if not rendered yet {@code null} instead
+     *
+     * @apiNote the index is trusted without checking the report in the {@link BlobStorage}, because the reports
+     * indexed are deleted only when they are removed from the index
+     */
+    public String getReport(String releaseId, String language, String stateHash) {
+        IndexedReport report = reports.get(reportKey(releaseId, language));
+        if(report == null || !report.stateHash().equals(stateHash))
+            return null;
+        return report.reportPath();
+    }
+
+    /**
+     * Method to index a new report rendered, the previous report of the release in the same language, if exists,
+     * will be deleted
+     *
+     * @param releaseId: the identifier of the release
+     * @param language: the language of the report
+     * @param stateHash: the hash of the state of the release when the report has been rendered
+     * @param reportPath: the pathname of the report
+     */
+    public void indexReport(String releaseId, String language, String stateHash, String reportPath) {
+        IndexedReport previousReport = reports.put(reportKey(releaseId, language), new IndexedReport(stateHash,
+                reportPath));
+        if(previousReport != null && !previousReport.reportPath().equals(reportPath))
+            deleteReportFile(previousReport.reportPath());
+        indexChanged.set(true);
+    }
+
+    /**
+     * Method to remove the reports of a release, in all the languages, from the index
+     *
+     * @param releaseId: the identifier of the release
+     *
+     * @return the pathnames of the reports removed as {@link List} of {@link String}
+     *
+     * @apiNote the files of the reports removed are not deleted, they must be collected by the caller
+     */
+    public List<String> removeReport(String releaseId) {
+        String keyPrefix = releaseId + REPORT_KEY_SEPARATOR;
+        ArrayList<String> removedReports = new ArrayList<>();
+        for (String reportKey : reports.keySet()) {
+            if(reportKey.startsWith(keyPrefix)) {
+                IndexedReport report = reports.remove(reportKey);
+                if(report != null)
+                    removedReports.add(report.reportPath());
+            }
+        }
+        if(!removedReports.isEmpty())
+            indexChanged.set(true);
+        return removedReports;
+    }
+
+    /**
+     * Method to get the pathnames of all the reports indexed <br>
+     * No-any params required
+     *
+     * @return the pathnames of the reports as {@link Set} of {@link String}
+     */
+    public Set<String> getReportPaths() {
+        HashSet<String> reportPaths = new HashSet<>();
+        for (IndexedReport report : reports.values())
+            reportPaths.add(report.reportPath());
+        return reportPaths;
+    }
+
+    /**
+     * Method to relocate the reports indexed stored with the flat layout in their sharded pathname, the reports which
+     * cannot be relocated are removed from the index and will be rendered again when requested <br>
+     * No-any params required
+     */
+    public void relocateReports() {
+        boolean relocated = false;
+        for (Map.Entry<String, IndexedReport> indexedReport : reports.entrySet()) {
+            IndexedReport report = indexedReport.getValue();
+            String reportPath = report.reportPath();
+            if(reportPath.indexOf('/') != reportPath.lastIndexOf('/'))
+                continue;
+            String reportKey = indexedReport.getKey();
+            String releaseId = reportKey.substring(0, reportKey.indexOf(REPORT_KEY_SEPARATOR));
+            String shardedReportPath = NovaResourcesManager.createShardedResource(REPORTS_DIRECTORY, releaseId,
+                    reportPath.substring(reportPath.lastIndexOf('/') + 1));
+            try {
+                Path shardedReport = Path.of(RESOURCES_PATH + shardedReportPath);
+                Files.createDirectories(shardedReport.getParent());
+                Files.move(Path.of(RESOURCES_PATH + reportPath), shardedReport, StandardCopyOption.REPLACE_EXISTING);
+                indexedReport.setValue(new IndexedReport(report.stateHash(), shardedReportPath));
+            } catch (IOException e) {
+                reports.remove(reportKey);
+            }
+            relocated = true;
+        }
+        if(relocated)
+            indexChanged.set(true);
+    }
+
+    /**
+     * Method to create the key of a report indexed
+     *
+     * @param releaseId: the identifier of the release
+     * @param language: the language of the report
+     *
+     * @return the key of the report as {@link String}
+     */
+    private String reportKey(String releaseId, String language) {
+        return releaseId + REPORT_KEY_SEPARATOR + ReportMessages.getBundle(language).getLanguage();
+    }
+
+    /**
+     * Method to delete the file of a report
+     *
+     * @param reportPath: the pathname of the report to delete
+     */
+    private void deleteReportFile(String reportPath) {
+        try {
+            blobStorage.delete(reportPath);
+        } catch (IOException | IllegalArgumentException ignored) {
+        }
+    }
+
+    /**
+     * Method to persist the index when has been changed after it has been persisted the last time, so many changes
+     * are persisted with a single write <br>
+     * No-any params required
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${nova.reports.index-persistence-interval:5000}")
+    public void flushIndex() {
+        if(indexChanged.getAndSet(false) && !persistIndex())
+            indexChanged.set(true);
+    }
+
+    /**
+     * Method to persist the current index in the {@link #REPORTS_INDEX_FILE} <br>
+     * No-any params required
+     *
+     * @return whether the index has been persisted as boolean
+     */
+    private synchronized boolean persistIndex() {
+        JSONObject jIndex = new JSONObject();
+        reports.forEach((releaseId, report) -> jIndex.put(releaseId, new JSONObject()
+                .put(STATE_HASH_KEY, report.stateHash())
+                .put(REPORT_PATH_KEY, report.reportPath())
+        ));
+        try {
+            Path indexFile = Path.of(REPORTS_INDEX_FILE);
+            Path tempIndexFile = Path.of(REPORTS_INDEX_FILE + ".tmp");
+            Files.createDirectories(indexFile.getParent());
+            Files.writeString(tempIndexFile, jIndex.toString());
+            Files.move(tempIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to compute the hash of the current state of a release, so all the details which are shown in its
+     * report
+     *
+     * @param release: the release from compute the hash
+     * @param language: the language of the report
+     *
+     * @return the hash of the state of the release as {@link String}
+     */
+    public String computeStateHash(Release release, String language) {
+        MessageDigest digest = newDigest();
+        Project project = release.getProject();
+        updateDigest(digest, release.getId(), ReportMessages.getBundle(language).getLanguage(), project.getName(),
+                project.getLogoUrl(), release.getReleaseVersion(), release.getStatus().name(),
+                release.getReleaseNotes(), String.valueOf(release.getCreationTimestamp()));
+        for (ReleaseEvent event : release.getReleaseEvents())
+            updateEventDigest(digest, event);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Method to compute the hash of the current state of a release event, so all the details which are shown in its
+     * section of the report
+     *
+     * @param event: the event from compute the hash
+     *
+     * @return the hash of the state of the event as {@link String}
+     */
+    public String computeEventHash(ReleaseEvent event) {
+        MessageDigest digest = newDigest();
+        updateEventDigest(digest, event);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Method to create a new SHA-256 digest <br>
+     * No-any params required
+     *
+     * @return the digest created as {@link MessageDigest}
+     */
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to update a digest with the details of a release event
+     *
+     * @param digest: the digest to update
+     * @param event: the event to add to the digest
+     */
+    private void updateEventDigest(MessageDigest digest, ReleaseEvent event) {
+        updateDigest(digest, event.getId(), ((ReleaseStandardEvent) event).getStatus().name(),
+                String.valueOf(event.getReleaseEventTimestamp()));
+        if(event instanceof RejectedReleaseEvent rejectedReleaseEvent) {
+            updateDigest(digest, rejectedReleaseEvent.getReasons());
+            for (RejectedTag rejectedTag : rejectedReleaseEvent.getTags())
+                updateDigest(digest, rejectedTag.getId(), rejectedTag.getTag().name(), rejectedTag.getComment());
+        } else if(event instanceof AssetUploadingEvent assetUploadingEvent) {
+            for (AssetUploaded asset : assetUploadingEvent.getAssetsUploaded())
+                updateDigest(digest, asset.getId(), String.valueOf(asset.getSize()));
+        }
+    }
+
+    /**
+     * Method to update a digest with a list of fields
+     *
+     * @param digest: the digest to update
+     * @param fields: the fields to add to the digest
+     */
+    private void updateDigest(MessageDigest digest, String... fields) {
+        for (String field : fields) {
+            if(field != null)
+                digest.update(field.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) FIELDS_SEPARATOR);
+        }
+    }
+
+    /**
+     * The {@code IndexedReport} record is useful to represent a report indexed
+     *
+     * @param stateHash: the hash of the state of the release when the report has been rendered
+     * @param reportPath: the pathname of the report
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private record IndexedReport(String stateHash, String reportPath) {
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.tecknobit.nova.helpers;
+
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.ReleasesRepository;
+import com.tecknobit.novacore.records.NovaUser;
+import com.tecknobit.novacore.records.project.Project;
+import com.tecknobit.novacore.records.release.Release;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code ReportsPregenerator} class is useful to render the reports of the releases in background as soon as
+ * their status changes, so when a user opens a report it is already on the disk. <br>
+ * The transitions of the same release which happen in quick succession are coalesced in a single rendering. This
+ * mode is opt-in and is enabled with the {@code nova.reports.eager-generation} property
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ReportsGenerator
+ */
+@Component
+public class ReportsPregenerator {
+
+    /**
+     * {@code COALESCING_DELAY} the time to wait after the last transition of a release before render its report
+     */
+    private static final long COALESCING_DELAY = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * {@code enabled} whether the eager generation of the reports is enabled
+     */
+    private final boolean enabled;
+
+    /**
+     * {@code reportsGenerator} the service used to generate the reports of the releases
+     */
+    private final ReportsGenerator reportsGenerator;
+
+    /**
+     * {@code releasesRepository} instance for the releases repository
+     */
+    private final ReleasesRepository releasesRepository;
+
+    /**
+     * {@code transactionTemplate} the template used to load the releases with all their events
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * {@code scheduledReports} the reports scheduled and not rendered yet, the key is the identifier of the release
+     */
+    private final ConcurrentHashMap<String, ScheduledFuture<?>> scheduledReports = new ConcurrentHashMap<>();
+
+    /**
+     * {@code scheduler} the scheduler used to coalesce the transitions of the releases
+     */
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nova-reports-pregenerator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructor to init the {@link ReportsPregenerator} class
+     *
+     * @param enabled: whether the eager generation of the reports is enabled
+     * @param reportsGenerator: the service used to generate the reports of the releases
+     * @param releasesRepository: instance for the releases repository
+     * @param transactionManager: the manager used to load the releases in a transaction
+     */
+    @Autowired
+    public ReportsPregenerator(@Value("${nova.reports.eager-generation:false}") boolean enabled,
+                               ReportsGenerator reportsGenerator, ReleasesRepository releasesRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.enabled = enabled;
+        this.reportsGenerator = reportsGenerator;
+        this.releasesRepository = releasesRepository;
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Method to schedule the rendering of the report of a release, if a rendering is already scheduled for the same
+     * release will be postponed instead
+     *
+     * @param releaseId: the identifier of the release
+     *
+     * @apiNote if the eager generation is not enabled this method has no effect
+     */
+    public void scheduleReport(String releaseId) {
+        if(!enabled)
+            return;
+        scheduledReports.compute(releaseId, (key, scheduledReport) -> {
+            if(scheduledReport != null)
+                scheduledReport.cancel(false);
+            AtomicReference<ScheduledFuture<?>> pregeneration = new AtomicReference<>();
+            pregeneration.set(scheduler.schedule(() -> pregenerateReport(releaseId, pregeneration.get()),
+                    COALESCING_DELAY, TimeUnit.MILLISECONDS));
+            return pregeneration.get();
+        });
+    }
+
+    /**
+     * Method to submit the rendering of the report of a release
+     *
+     * @param releaseId: the identifier of the release
+     * @param pregeneration: the scheduling of this rendering, removed from the {@link #scheduledReports} only if a
+     * newer rendering has not been scheduled meanwhile
+     *
+     * @apiNote the report is rendered in each language used by the members of the project, if the reports queue is
+     * full the reports will be rendered on demand when requested
+     */
+    private void pregenerateReport(String releaseId, ScheduledFuture<?> pregeneration) {
+        scheduledReports.remove(releaseId, pregeneration);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Release release = releasesRepository.findById(releaseId).orElse(null);
+                if(release == null || release.getReleaseEvents().isEmpty())
+                    return;
+                Project project = release.getProject();
+                HashSet<String> languages = new HashSet<>();
+                languages.add(project.getAuthor().getLanguage());
+                for (NovaUser member : project.getProjectMembers())
+                    languages.add(member.getLanguage());
+                for (String language : languages)
+                    reportsGenerator.submitReport(release, language);
+            });
+        } catch (RejectedExecutionException ignored) {
+        }
+    }
+
+    /**
+     * Method to stop the {@link #scheduler} when the service is destroyed <br>
+     * No-any params required
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+}
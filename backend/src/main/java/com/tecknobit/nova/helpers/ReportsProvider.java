@@ -1,27 +1,24 @@
 package com.tecknobit.nova.helpers;
 
-import com.tecknobit.apimanager.apis.ResourcesUtils;
 import com.tecknobit.apimanager.formatters.TimeFormatter;
 import com.tecknobit.apimanager.trading.TradingTools;
-import com.tecknobit.mantis.Mantis;
 import com.tecknobit.nova.helpers.resources.NovaResourcesManager;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
 import com.tecknobit.novacore.records.project.Project;
 import com.tecknobit.novacore.records.release.Release;
 import com.tecknobit.novacore.records.release.Release.ReleaseStatus;
 import com.tecknobit.novacore.records.release.events.*;
 import com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded;
-import com.vladsch.flexmark.html.HtmlRenderer;
-import com.vladsch.flexmark.parser.Parser;
-import com.vladsch.flexmark.pdf.converter.PdfConverterExtension;
-import com.vladsch.flexmark.util.ast.Node;
-import com.vladsch.flexmark.util.data.DataHolder;
-import com.vladsch.flexmark.util.data.MutableDataSet;
-
-import java.io.File;
-import java.io.IOException;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
-import java.util.Objects;
+
+import static com.tecknobit.novacore.records.project.Project.LARGE_LOGO_SIZE;
+import static com.tecknobit.novacore.records.project.Project.getLogoThumbnailUrl;
 
 /**
  * The {@code ReportsProvider} class is useful to create and provide the reports for the releases
@@ -66,11 +63,6 @@ public class ReportsProvider implements NovaResourcesManager {
      */
     public static final String RELEASE_EVENTS_TAG = "<release_events>";
 
-    /**
-     * {@code SLASH} the slash character
-     */
-    private static final String SLASH = "/";
-
     /**
      * {@code UNDERSCORE} the underscore character
      */
@@ -86,36 +78,35 @@ public class ReportsProvider implements NovaResourcesManager {
      */
     private static final String PDF_EXTENSION = ".pdf";
 
+    /**
+     * {@code PDF_CONTENT_TYPE} the content type of the reports files
+     */
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+
+    /**
+     * {@code STATE_HASH_PREFIX_LENGTH} the length of the prefix of the release state hash used in the reports names
+     */
+    private static final int STATE_HASH_PREFIX_LENGTH = 8;
+
     /**
      * {@code timeFormatter} the formatter used to format the timestamp values
      */
     private static final TimeFormatter timeFormatter = TimeFormatter.getInstance("dd_MM_YYYY");
 
     /**
-     * {@code reportTemplate} the report template to use and where place the real instead of the tags
+     * {@code reportTemplate} the compiled report template where place the real values instead of the tags
      */
-    private String reportTemplate;
-
-    {
-        try {
-            reportTemplate = ResourcesUtils.getResourceContent("report_template.md", this.getClass());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    private static final ReportTemplate reportTemplate = ReportTemplate.getInstance();
 
     /**
-     * {@code mantis} helper to manage the multi-language of the report
+     * {@code reportValues} the values to place in the report template, the key is the related tag
      */
-    private static final Mantis mantis;
+    private final HashMap<String, String> reportValues = new HashMap<>();
 
-    static {
-        try {
-            mantis = new Mantis(Locale.getDefault());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    /**
+     * {@code messages} the bundle of the messages in the language of the report
+     */
+    private ReportMessages messages;
 
     /**
      * {@code BREAK_LINE} constant of the break line html tag
@@ -133,67 +124,104 @@ public class ReportsProvider implements NovaResourcesManager {
     private String reportName;
 
     /**
-     * Method to create the report for a release
-     *
-     * @param release: the release on which create its report
+     * {@code reportsIndex} the index of the reports already rendered
+     */
+    private final ReportsIndex reportsIndex;
+
+    /**
+     * {@code fragmentsCache} the cache of the html fragments rendered for the events of the releases
+     */
+    private final ReportFragmentsCache fragmentsCache;
+
+    /**
+     * {@code pdfRenderer} the renderer used to convert the reports in PDF
+     */
+    private final PdfRenderer pdfRenderer;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    private final BlobStorage blobStorage;
+
+    /**
+     * Constructor to init the {@link ReportsProvider} class
      *
-     * @return the pathname of the report created
+     * @param reportsIndex: the index of the reports already rendered
+     * @param fragmentsCache: the cache of the html fragments rendered for the events of the releases
+     * @param pdfRenderer: the renderer used to convert the reports in PDF
+     * @param blobStorage: the storage where the resources are stored
+     */
+    public ReportsProvider(ReportsIndex reportsIndex, ReportFragmentsCache fragmentsCache, PdfRenderer pdfRenderer,
+                           BlobStorage blobStorage) {
+        this.reportsIndex = reportsIndex;
+        this.fragmentsCache = fragmentsCache;
+        this.pdfRenderer = pdfRenderer;
+        this.blobStorage = blobStorage;
+    }
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
      *
-     * @apiNote if an existing report already exists, but is different from the current release status, will be deleted
-     * and replaced with a new one
-     * @throws Exception when an error occurred
+     * @return the storage of the resources as {@link BlobStorage}
      */
-    public String getReleaseReport(Release release) throws Exception {
-        setCurrentRelease(release);
-        deleteReleaseReportIfExists();
-        File report = new File(reportName);
-        if(!report.exists())
-            createReport();
-        return reportName;
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
     }
 
     /**
-     * Method to delete a report if an existing report already exists and is different from the current release status
+     * Method to create the report for a release
+     *
+     * @param release: the release on which create its report
+     * @param stateHash: the hash of the current state of the release
+     * @param language: the language of the report
+     *
+     * @return the pathname of the report created
      *
+     * @apiNote if the report for the current release state has been already rendered will be returned that report,
+     * else a new one will be created and will replace the previous one of the release
      * @throws Exception when an error occurred
      */
-    private void deleteReleaseReportIfExists() throws Exception {
-        File reports = new File(RESOURCES_REPORTS_PATH);
-        File reportToDelete = null;
-        for (File report : Objects.requireNonNull(reports.listFiles())) {
-            String checkReportName = report.getName();
-            if(checkReportName.contains(removeVersionPrefix()) && !reportName.endsWith(checkReportName)) {
-                reportToDelete = report;
-                break;
-            }
-        }
-        if(reportToDelete != null)
-            if(!reportToDelete.delete())
-                throw new Exception();
+    public String getReleaseReport(Release release, String stateHash, String language) throws Exception {
+        String releaseId = release.getId();
+        String indexedReport = reportsIndex.getReport(releaseId, language, stateHash);
+        if(indexedReport != null)
+            return indexedReport;
+        messages = ReportMessages.getBundle(language);
+        setCurrentRelease(release, stateHash);
+        createReport();
+        reportsIndex.indexReport(releaseId, language, stateHash, reportName);
+        return reportName;
     }
 
     /**
      * Method to set the current release details
      *
      * @param currentRelease: the current release details to set the {@link #currentRelease} instance
+     * @param stateHash: the hash of the current state of the release
      */
-    private void setCurrentRelease(Release currentRelease) {
+    private void setCurrentRelease(Release currentRelease, String stateHash) {
         this.currentRelease = currentRelease;
-        reportName = formatReportName();
+        reportName = formatReportName(stateHash);
     }
 
     /**
-     * Method to format the name for the report <br>
+     * Method to format the name for the report
+     *
+     * @param stateHash: the hash of the current state of the release
      *
-     * No-any params required
      * @return name formatted as {@link String}
      */
-    private String formatReportName() {
-        String reportName = REPORTS_DIRECTORY + SLASH + currentRelease.getProject().getName() + UNDERSCORE;
+    private String formatReportName(String stateHash) {
+        String reportName = currentRelease.getProject().getName() + UNDERSCORE;
         reportName += removeVersionPrefix() + UNDERSCORE;
         reportName += currentRelease.getStatus() + UNDERSCORE;
-        reportName += timeFormatter.formatAsString(currentRelease.getLastEvent());
-        return reportName + PDF_EXTENSION;
+        reportName += timeFormatter.formatAsString(currentRelease.getLastEvent()) + UNDERSCORE;
+        reportName += messages.getLanguage() + UNDERSCORE;
+        reportName += stateHash.substring(0, STATE_HASH_PREFIX_LENGTH);
+        return NovaResourcesManager.createShardedResource(REPORTS_DIRECTORY, currentRelease.getId(),
+                reportName + PDF_EXTENSION);
     }
 
     /**
@@ -207,100 +235,141 @@ public class ReportsProvider implements NovaResourcesManager {
     }
 
     /**
-     * Method to create the release report <br>
+     * Method to create the release report, the report is rendered in a local staging file and then stored in the
+     * {@link #blobStorage} <br>
      * No-any params required
+     *
+     * @throws Exception when an error occurred writing the report
      */
-    private void createReport() {
+    private void createReport() throws Exception {
         insertHeader();
         insertReleaseEvents();
-        MutableDataSet options = new MutableDataSet();
-        Parser parser = Parser
-                .builder(options)
-                .build();
-        HtmlRenderer renderer = HtmlRenderer
-                .builder(options)
-                .build();
-        Node document = parser.parse(reportTemplate);
-        String html = renderer.render(document);
-        PdfConverterExtension.exportToPdf(RESOURCES_PATH + reportName, html, "", DataHolder.NULL);
+        String html = reportTemplate.render(reportValues);
+        Path stagingReport = createStagingResource();
+        try {
+            try (OutputStream report = new BufferedOutputStream(Files.newOutputStream(stagingReport))) {
+                pdfRenderer.render(html, report);
+            }
+            blobStorage.put(reportName, stagingReport, PDF_CONTENT_TYPE);
+        } finally {
+            Files.deleteIfExists(stagingReport);
+        }
     }
 
     /**
-     * Method to insert the header of the report, so insert, replacing the related tags, the project logo, project name,
+     * Method to insert the header of the report, so insert, in the related slots, the project logo, project name,
      * release version, the creation date of the release, the current status of the release and the notes of
      * the release.<br>
      * No-any params required
      */
     private void insertHeader() {
         Project project = currentRelease.getProject();
-        reportTemplate = insertLogo(project)
-                .replaceAll(PROJECT_NAME_TAG, project.getName())
-                .replaceAll(RELEASE_VERSION_TAG, currentRelease.getReleaseVersion())
-                .replaceAll(RELEASE_CREATION_DATE_TAG, mantis.getResource("creation_date_key")
-                        + " " + currentRelease.getCreationDate())
-                .replaceAll(RELEASE_STATUS_TAG, releaseStatusBadge(currentRelease.getStatus()))
-                .replaceAll(RELEASE_NOTES_TAG, currentRelease.getReleaseNotes());
+        insertLogo(project);
+        reportValues.put(PROJECT_NAME_TAG, project.getName());
+        reportValues.put(RELEASE_VERSION_TAG, currentRelease.getReleaseVersion());
+        reportValues.put(RELEASE_CREATION_DATE_TAG, messages.getMessage("creation_date_key") + " "
+                + currentRelease.getCreationDate());
+        reportValues.put(RELEASE_STATUS_TAG, releaseStatusBadge(currentRelease.getStatus()));
+        reportValues.put(RELEASE_NOTES_TAG, currentRelease.getReleaseNotes());
     }
 
     /**
-     * Method to insert the project logo replacing the related tag
+     * Method to insert the project logo in the related slot, the large thumbnail of the logo is used when available,
+     * so the original logo is not embedded in each report
      * @param project: the project from fetch the logo
-     * @return the {@link #reportTemplate} changed with the project logo inserted
      */
-    private String insertLogo(Project project) {
-        return reportTemplate.replaceAll(PROJECT_LOGO_TAG, RESOURCES_PATH + project.getLogoUrl());
+    private void insertLogo(Project project) {
+        String logoUrl = project.getLogoUrl();
+        String logoThumbnailUrl = getLogoThumbnailUrl(logoUrl, LARGE_LOGO_SIZE);
+        try {
+            if(blobStorage.stat(logoThumbnailUrl) != null)
+                logoUrl = logoThumbnailUrl;
+        } catch (IOException ignored) {
+        }
+        reportValues.put(PROJECT_LOGO_TAG, pdfRenderer.getLogo(logoUrl));
     }
 
     /**
-     * Method to insert and create the structure for the events of the release replacing the related tag<br>
+     * Method to insert and create the structure for the events of the release in the related slot, the fragments of
+     * the events not changed since the last report are taken from the {@link #fragmentsCache}<br>
      * No-any params required
      */
     private void insertReleaseEvents() {
         StringBuilder report = new StringBuilder();
-        for (ReleaseEvent event : currentRelease.getReleaseEvents()) {
-            report.append("<div class=\"container\">");
-            report.append("<div class=\"content\">");
-            ReleaseStatus status = ((ReleaseStandardEvent) event).getStatus();
-            report.append(releaseStatusBadge(status));
-            report.append(event.getReleaseEventDate()).append(BREAK_LINE);
-            switch (status) {
-                case Rejected -> {
-                    RejectedReleaseEvent rejectedReleaseEvent = (RejectedReleaseEvent) event;
-                    report.append(rejectedReleaseEvent.getReasons()).append(BREAK_LINE);
-                    for (RejectedTag rejectedTag : rejectedReleaseEvent.getTags()) {
-                        ReleaseEvent.ReleaseTag tag = rejectedTag.getTag();
-                        report.append("<span style=\"color:")
-                                .append(tag.getColor()).append(";\">")
-                                .append(tag.name())
-                                .append("</span>").append(BREAK_LINE);
-                        String comment = rejectedTag.getComment();
-                        if(comment != null)
-                            report.append(comment).append(BREAK_LINE);
-                    }
+        for (ReleaseEvent event : currentRelease.getReleaseEvents())
+            report.append(fragmentsCache.getFragment(event, messages.getLanguage(), this::renderEventFragment));
+        reportValues.put(RELEASE_EVENTS_TAG, report.toString());
+    }
+
+    /**
+     * Method to render the html fragment of a release event
+     *
+     * @param event: the event to render
+     *
+     * @return the fragment of the event as html {@link String}
+     */
+    private String renderEventFragment(ReleaseEvent event) {
+        StringBuilder report = new StringBuilder();
+        report.append("<div class=\"container\">");
+        report.append("<div class=\"content\">");
+        ReleaseStatus status = ((ReleaseStandardEvent) event).getStatus();
+        report.append(releaseStatusBadge(status));
+        report.append(event.getReleaseEventDate()).append(BREAK_LINE);
+        switch (status) {
+            case Rejected -> {
+                RejectedReleaseEvent rejectedReleaseEvent = (RejectedReleaseEvent) event;
+                report.append(rejectedReleaseEvent.getReasons()).append(BREAK_LINE);
+                for (RejectedTag rejectedTag : rejectedReleaseEvent.getTags()) {
+                    ReleaseEvent.ReleaseTag tag = rejectedTag.getTag();
+                    report.append("<span style=\"color:")
+                            .append(tag.getColor()).append(";\">")
+                            .append(tag.name())
+                            .append("</span>").append(BREAK_LINE);
+                    String comment = rejectedTag.getComment();
+                    if(comment != null)
+                        report.append(comment).append(BREAK_LINE);
                 }
-                case Verifying -> {
-                    report.append(getStatusComment(status)).append(BREAK_LINE);
-                    AssetUploadingEvent assetUploadingEvent = ((AssetUploadingEvent) event);
-                    List<AssetUploaded> assets = assetUploadingEvent.getAssetsUploaded();
-                    for(int j = 0; j < assets.size(); j++) {
-                        AssetUploaded asset = assets.get(j);
-                        double spaceOccupied = new File(RESOURCES_PATH + asset.getUrl()).length();
-                        report.append("- Asset #")
-                                .append(j + 1)
-                                .append(" ")
-                                .append(TradingTools.roundValue(((spaceOccupied) / (1024 * 1024)), 2))
-                                .append(" MB")
-                                .append(BREAK_LINE);
-                    }
+            }
+            case Verifying -> {
+                report.append(getStatusComment(status)).append(BREAK_LINE);
+                AssetUploadingEvent assetUploadingEvent = ((AssetUploadingEvent) event);
+                List<AssetUploaded> assets = assetUploadingEvent.getAssetsUploaded();
+                for(int j = 0; j < assets.size(); j++) {
+                    AssetUploaded asset = assets.get(j);
+                    double spaceOccupied = asset.getSize();
+                    if(spaceOccupied < 0)
+                        spaceOccupied = getStoredSize(asset.getUrl());
+                    report.append("- Asset #")
+                            .append(j + 1)
+                            .append(" ")
+                            .append(TradingTools.roundValue(((spaceOccupied) / (1024 * 1024)), 2))
+                            .append(" MB")
+                            .append(BREAK_LINE);
                 }
-                default -> report.append(getStatusComment(status)).append(BREAK_LINE);
             }
-            report.append("</div>");
-            report.append("<hr>");
-            report.append("</div>");
+            default -> report.append(getStatusComment(status)).append(BREAK_LINE);
+        }
+        report.append("</div>");
+        report.append("<hr>");
+        report.append("</div>");
+        return report.toString();
+    }
+
+    /**
+     * Method to get the size of a resource stored
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the size of the resource as long, if it cannot be resolved {@code 0} instead
+     */
+    private long getStoredSize(String resourcePath) {
+        try {
+            BlobStat stat = blobStorage.stat(resourcePath);
+            if(stat != null)
+                return stat.size();
+        } catch (IOException ignored) {
         }
-        reportTemplate = reportTemplate
-                .replaceAll(RELEASE_EVENTS_TAG, report.toString());
+        return 0;
     }
 
     /**
@@ -327,11 +396,11 @@ public class ReportsProvider implements NovaResourcesManager {
      */
     private String getStatusComment(ReleaseStatus status) {
         return switch (status) {
-            case Verifying -> mantis.getResource("new_asset_has_been_uploaded_key");
-            case Approved -> mantis.getResource("asset_has_been_approved_key");
-            case Alpha -> mantis.getResource("alpha_timeline_message_key");
-            case Beta -> mantis.getResource("beta_timeline_message_key");
-            case Latest -> mantis.getResource("latest_timeline_message_key");
+            case Verifying -> messages.getMessage("new_asset_has_been_uploaded_key");
+            case Approved -> messages.getMessage("asset_has_been_approved_key");
+            case Alpha -> messages.getMessage("alpha_timeline_message_key");
+            case Beta -> messages.getMessage("beta_timeline_message_key");
+            case Latest -> messages.getMessage("latest_timeline_message_key");
             default -> null;
         };
     }
@@ -0,0 +1,629 @@
+package com.tecknobit.nova.helpers.resources;
+
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.equinox.environment.controllers.EquinoxController.generateIdentifier;
+import static com.tecknobit.equinox.environment.records.EquinoxUser.NAME_KEY;
+import static com.tecknobit.novacore.records.release.Release.RELEASE_IDENTIFIER_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.ASSET_CONTENT_TYPE_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.ASSET_SIZE_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.UPLOAD_OFFSET_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.UPLOAD_SESSION_IDENTIFIER_KEY;
+
+/**
+ * The {@code AssetUploadSessions} class is useful to manage the resumable upload sessions of the assets. <br>
+ * The content of an asset is received in ranged chunks which are written in a local staging directory, together
+ * with a sidecar file which keeps the state of the session, so an upload interrupted can be resumed from the last
+ * offset received also after a restart of the server. The sessions not updated within {@link #SESSIONS_EXPIRATION}
+ * are discarded
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NovaResourcesManager
+ */
+@Component
+public class AssetUploadSessions implements NovaResourcesManager {
+
+    /**
+     * {@code STAGING_PATH} the local staging directory where the upload sessions are stored
+     *
+     * @apiNote the directory is placed in the resources directory, so the staged files are on the same disk of the
+     * resources and are moved without being copied, but it is never served or scanned by the {@link StorageCollector}
+     */
+    public static final String STAGING_PATH = RESOURCES_PATH + STAGING_DIRECTORY + "/";
+
+    /**
+     * {@code PART_EXTENSION} the extension of the files which contain the content received of the sessions
+     */
+    private static final String PART_EXTENSION = ".part";
+
+    /**
+     * {@code SIDECAR_EXTENSION} the extension of the files which contain the state of the sessions
+     */
+    private static final String SIDECAR_EXTENSION = ".json";
+
+    /**
+     * {@code STORING_EXTENSION} the extension of the files which contain the content of the sessions while it is
+     * stored
+     */
+    private static final String STORING_EXTENSION = ".storing";
+
+    /**
+     * {@code SESSIONS_EXPIRATION} the time after a session not updated is discarded
+     */
+    private static final long SESSIONS_EXPIRATION = TimeUnit.HOURS.toMillis(24);
+
+    /**
+     * {@code OWNER_IDENTIFIER_KEY} the key for the <b>"owner_id"</b> field
+     */
+    private static final String OWNER_IDENTIFIER_KEY = "owner_id";
+
+    /**
+     * {@code LAST_UPDATE_KEY} the key for the <b>"last_update"</b> field
+     */
+    private static final String LAST_UPDATE_KEY = "last_update";
+
+    /**
+     * {@code sessions} the upload sessions currently active, the key is the identifier of the session
+     */
+    private final ConcurrentHashMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    @Autowired
+    private BlobStorage blobStorage;
+
+    /**
+     * {@code maxAssetSize} the max size of each asset uploaded, the same limit of the multipart uploads
+     */
+    @Value("${spring.servlet.multipart.max-file-size}")
+    private DataSize maxAssetSize;
+
+    /**
+     * {@code maxUploadSize} the max size of all the assets uploaded together, the same limit of the multipart uploads
+     */
+    @Value("${spring.servlet.multipart.max-request-size}")
+    private DataSize maxUploadSize;
+
+    /**
+     * {@code cleaner} the scheduler used to discard the expired sessions
+     */
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nova-upload-sessions-cleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
+    /**
+     * Method to load the sessions stored in the {@link #STAGING_PATH} and to schedule the discarding of the expired
+     * sessions <br>
+     * No-any params required
+     *
+     * @throws IOException when the staging directory cannot be created
+     */
+    @PostConstruct
+    public void loadSessions() throws IOException {
+        Files.createDirectories(Path.of(STAGING_PATH));
+        File[] sidecars = new File(STAGING_PATH).listFiles((dir, name) -> name.endsWith(SIDECAR_EXTENSION));
+        if(sidecars != null) {
+            for (File sidecar : sidecars) {
+                try {
+                    UploadSession session = new UploadSession(new JSONObject(Files.readString(sidecar.toPath())));
+                    if(Files.exists(session.getPartPath()))
+                        sessions.put(session.getId(), session);
+                    else
+                        Files.deleteIfExists(sidecar.toPath());
+                } catch (Exception e) {
+                    Files.deleteIfExists(sidecar.toPath());
+                }
+            }
+        }
+        cleaner.scheduleAtFixedRate(this::removeExpiredSessions, 1, 1, TimeUnit.HOURS);
+    }
+
+    /**
+     * Method to check whether an asset exceeds the max size allowed for each asset uploaded
+     *
+     * @param size: the total size in bytes of the asset
+     *
+     * @return whether the asset exceeds the max size as boolean
+     */
+    public boolean exceedsMaxAssetSize(long size) {
+        return size > maxAssetSize.toBytes();
+    }
+
+    /**
+     * Method to check whether the assets of a list of sessions, uploaded together, exceed the max size allowed for an
+     * upload
+     *
+     * @param sessions: the sessions of the assets to upload
+     *
+     * @return whether the assets exceed the max size as boolean
+     */
+    public boolean exceedsMaxUploadSize(List<UploadSession> sessions) {
+        long uploadSize = 0;
+        for (UploadSession session : sessions)
+            uploadSize += session.getSize();
+        return uploadSize > maxUploadSize.toBytes();
+    }
+
+    /**
+     * Method to create a new upload session
+     *
+     * @param releaseId: the identifier of the release where the asset will be uploaded
+     * @param ownerId: the identifier of the user who is uploading the asset
+     * @param name: the name of the asset
+     * @param size: the total size in bytes of the asset
+     * @param contentType: the content type of the asset
+     *
+     * @return the session created as {@link UploadSession}
+     *
+     * @throws IOException when an error occurred creating the session
+     * @throws IllegalArgumentException when the size of the asset exceeds the {@link #maxAssetSize}
+     */
+    public UploadSession createSession(String releaseId, String ownerId, String name, long size,
+                                       String contentType) throws IOException {
+        if(exceedsMaxAssetSize(size))
+            throw new IllegalArgumentException("The asset exceeds the max size of the uploads");
+        UploadSession session = new UploadSession(generateIdentifier(), releaseId, ownerId, name, size, contentType);
+        Files.createFile(session.getPartPath());
+        persistSession(session);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Method to get an upload session
+     *
+     * @param sessionId: the identifier of the session
+     *
+     * @return the session as {@link UploadSession}, if not exists or expired {@code null} instead
+     */
+    public UploadSession getSession(String sessionId) {
+        UploadSession session = sessions.get(sessionId);
+        if(session != null && session.isExpired()) {
+            removeSession(session);
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * Method to append a chunk of content to an upload session, the chunk is written directly in the staged file of
+     * the session
+     *
+     * @param session: the session where append the chunk
+     * @param start: the position of the first byte of the chunk
+     * @param end: the position of the last byte of the chunk, inclusive
+     * @param total: the total size of the asset declared by the chunk
+     * @param content: the stream of the content of the chunk
+     *
+     * @return whether the chunk has been accepted
+     *
+     * @throws IOException when an error occurred writing the chunk
+     * @apiNote a chunk is accepted only if starts at the current offset of the session, if the stream is interrupted
+     * the bytes already received are kept, so the upload can be resumed from the new offset
+     */
+    public boolean appendChunk(UploadSession session, long start, long end, long total,
+                               InputStream content) throws IOException {
+        synchronized (session) {
+            if(start != session.getOffset() || end < start || total != session.getSize() || end >= total)
+                return false;
+            long remaining = end - start + 1;
+            long position = start;
+            ReadableByteChannel source = Channels.newChannel(content);
+            try (FileChannel destination = FileChannel.open(session.getPartPath(), StandardOpenOption.WRITE)) {
+                try {
+                    while (remaining > 0) {
+                        long transferred = destination.transferFrom(source, position, remaining);
+                        if(transferred <= 0)
+                            break;
+                        position += transferred;
+                        remaining -= transferred;
+                    }
+                } finally {
+                    destination.force(false);
+                    session.setOffset(position);
+                    persistSession(session);
+                }
+            }
+            return remaining == 0;
+        }
+    }
+
+    /**
+     * Method to complete an upload session storing its staged file in the content addressed location of the asset
+     *
+     * @param session: the session to complete
+     *
+     * @return the details of the asset stored as {@link StoredAsset}
+     *
+     * @throws IOException when an error occurred storing the asset
+     * @apiNote the staged file is kept, so the session can be completed again if the asset is not attached, the
+     * caller must remove the session with {@link #removeSession(UploadSession)} only after the asset has been
+     * committed
+     */
+    public StoredAsset completeSession(UploadSession session) throws IOException {
+        synchronized (session) {
+            Path storingPath = session.getStoringPath();
+            try {
+                stageContent(session.getPartPath(), storingPath);
+                String checksum = computeChecksum(storingPath);
+                String assetPath = moveAsset(storingPath, checksum, session.getContentType());
+                return new StoredAsset(assetPath, session.getSize(), checksum, session.getContentType());
+            } finally {
+                Files.deleteIfExists(storingPath);
+            }
+        }
+    }
+
+    /**
+     * Method to stage the content of a session in a new file which can be consumed by the storage, the staged file
+     * of the session is linked when possible, otherwise is copied
+     *
+     * @param partPath: the path of the staged file of the session
+     * @param storingPath: the path of the file to consume
+     *
+     * @throws IOException when an error occurred staging the content
+     */
+    private void stageContent(Path partPath, Path storingPath) throws IOException {
+        Files.deleteIfExists(storingPath);
+        try {
+            Files.createLink(storingPath, partPath);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(partPath, storingPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Method to compute the SHA-256 checksum of a file
+     *
+     * @param file: the file from compute the checksum
+     *
+     * @return the checksum of the file as {@link String}
+     *
+     * @throws IOException when an error occurred reading the file
+     */
+    private String computeChecksum(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(STORING_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Method to remove an upload session deleting also its staged files
+     *
+     * @param session: the session to remove
+     */
+    public void removeSession(UploadSession session) {
+        sessions.remove(session.getId(), session);
+        try {
+            Files.deleteIfExists(session.getPartPath());
+            Files.deleteIfExists(session.getSidecarPath());
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Method to remove the sessions expired <br>
+     * No-any params required
+     */
+    private void removeExpiredSessions() {
+        for (UploadSession session : sessions.values())
+            if(session.isExpired())
+                removeSession(session);
+    }
+
+    /**
+     * Method to persist the state of a session in its sidecar file
+     *
+     * @param session: the session to persist
+     *
+     * @throws IOException when an error occurred persisting the session
+     */
+    private void persistSession(UploadSession session) throws IOException {
+        Path sidecar = session.getSidecarPath();
+        Path tempSidecar = Path.of(sidecar + ".tmp");
+        Files.writeString(tempSidecar, session.toJSON().put(OWNER_IDENTIFIER_KEY, session.getOwnerId())
+                .put(LAST_UPDATE_KEY, session.getLastUpdate()).toString());
+        Files.move(tempSidecar, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Method to stop the {@link #cleaner} when the service is destroyed <br>
+     * No-any params required
+     */
+    @PreDestroy
+    public void shutdown() {
+        cleaner.shutdownNow();
+    }
+
+    /**
+     * The {@code UploadSession} class is useful to represent a resumable upload session of an asset
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static final class UploadSession {
+
+        /**
+         * {@code id} the identifier of the session
+         */
+        private final String id;
+
+        /**
+         * {@code releaseId} the identifier of the release where the asset will be uploaded
+         */
+        private final String releaseId;
+
+        /**
+         * {@code ownerId} the identifier of the user who is uploading the asset
+         */
+        private final String ownerId;
+
+        /**
+         * {@code name} the name of the asset
+         */
+        private final String name;
+
+        /**
+         * {@code size} the total size in bytes of the asset
+         */
+        private final long size;
+
+        /**
+         * {@code contentType} the content type of the asset
+         */
+        private final String contentType;
+
+        /**
+         * {@code offset} the number of the bytes already received
+         */
+        private volatile long offset;
+
+        /**
+         * {@code lastUpdate} when the session has been updated the last time
+         */
+        private volatile long lastUpdate;
+
+        /**
+         * Constructor to init the {@link UploadSession} class
+         *
+         * @param id: the identifier of the session
+         * @param releaseId: the identifier of the release where the asset will be uploaded
+         * @param ownerId: the identifier of the user who is uploading the asset
+         * @param name: the name of the asset
+         * @param size: the total size in bytes of the asset
+         * @param contentType: the content type of the asset
+         */
+        private UploadSession(String id, String releaseId, String ownerId, String name, long size,
+                              String contentType) {
+            this.id = id;
+            this.releaseId = releaseId;
+            this.ownerId = ownerId;
+            this.name = name;
+            this.size = size;
+            if(contentType == null || contentType.isBlank())
+                contentType = DEFAULT_ASSET_CONTENT_TYPE;
+            this.contentType = contentType;
+            lastUpdate = System.currentTimeMillis();
+        }
+
+        /**
+         * Constructor to init the {@link UploadSession} class
+         *
+         * @param jSession: session details formatted as JSON
+         */
+        private UploadSession(JSONObject jSession) {
+            this(jSession.getString(UPLOAD_SESSION_IDENTIFIER_KEY), jSession.getString(RELEASE_IDENTIFIER_KEY),
+                    jSession.getString(OWNER_IDENTIFIER_KEY), jSession.getString(NAME_KEY),
+                    jSession.getLong(ASSET_SIZE_KEY), jSession.getString(ASSET_CONTENT_TYPE_KEY));
+            offset = jSession.getLong(UPLOAD_OFFSET_KEY);
+            lastUpdate = jSession.getLong(LAST_UPDATE_KEY);
+        }
+
+        /**
+         * Method to get {@link #id} instance <br>
+         * No-any params required
+         *
+         * @return {@link #id} instance as {@link String}
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Method to get {@link #releaseId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #releaseId} instance as {@link String}
+         */
+        public String getReleaseId() {
+            return releaseId;
+        }
+
+        /**
+         * Method to get {@link #ownerId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #ownerId} instance as {@link String}
+         */
+        public String getOwnerId() {
+            return ownerId;
+        }
+
+        /**
+         * Method to get {@link #name} instance <br>
+         * No-any params required
+         *
+         * @return {@link #name} instance as {@link String}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Method to get {@link #size} instance <br>
+         * No-any params required
+         *
+         * @return {@link #size} instance as long
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Method to get {@link #contentType} instance <br>
+         * No-any params required
+         *
+         * @return {@link #contentType} instance as {@link String}
+         */
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Method to get {@link #offset} instance <br>
+         * No-any params required
+         *
+         * @return {@link #offset} instance as long
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Method to set the {@link #offset} instance updating also the {@link #lastUpdate}
+         *
+         * @param offset: the number of the bytes already received
+         */
+        private void setOffset(long offset) {
+            this.offset = offset;
+            lastUpdate = System.currentTimeMillis();
+        }
+
+        /**
+         * Method to get {@link #lastUpdate} instance <br>
+         * No-any params required
+         *
+         * @return {@link #lastUpdate} instance as long
+         */
+        public long getLastUpdate() {
+            return lastUpdate;
+        }
+
+        /**
+         * Method to get whether all the content of the asset has been received <br>
+         * No-any params required
+         *
+         * @return whether all the content of the asset has been received as boolean
+         */
+        public boolean isCompleted() {
+            return offset == size;
+        }
+
+        /**
+         * Method to get whether the session is expired <br>
+         * No-any params required
+         *
+         * @return whether the session is expired as boolean
+         */
+        private boolean isExpired() {
+            return System.currentTimeMillis() - lastUpdate > SESSIONS_EXPIRATION;
+        }
+
+        /**
+         * Method to get the path of the staged file of the session <br>
+         * No-any params required
+         *
+         * @return the path of the staged file as {@link Path}
+         */
+        private Path getPartPath() {
+            return Path.of(STAGING_PATH + id + PART_EXTENSION);
+        }
+
+        /**
+         * Method to get the path of the file consumed by the storage when the session is completed <br>
+         * No-any params required
+         *
+         * @return the path of the file consumed as {@link Path}
+         */
+        private Path getStoringPath() {
+            return Path.of(STAGING_PATH + id + STORING_EXTENSION);
+        }
+
+        /**
+         * Method to get the path of the sidecar file of the session <br>
+         * No-any params required
+         *
+         * @return the path of the sidecar file as {@link Path}
+         */
+        private Path getSidecarPath() {
+            return Path.of(STAGING_PATH + id + SIDECAR_EXTENSION);
+        }
+
+        /**
+         * Method to get the details of the session formatted as JSON <br>
+         * No-any params required
+         *
+         * @return the details of the session as {@link JSONObject}
+         */
+        public JSONObject toJSON() {
+            return new JSONObject()
+                    .put(UPLOAD_SESSION_IDENTIFIER_KEY, id)
+                    .put(RELEASE_IDENTIFIER_KEY, releaseId)
+                    .put(NAME_KEY, name)
+                    .put(ASSET_SIZE_KEY, size)
+                    .put(ASSET_CONTENT_TYPE_KEY, contentType)
+                    .put(UPLOAD_OFFSET_KEY, offset);
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.tecknobit.nova.helpers.resources;
+
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
+import com.tecknobit.nova.helpers.services.repositories.projectsutils.ProjectsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.tecknobit.novacore.records.project.Project.LARGE_LOGO_SIZE;
+import static com.tecknobit.novacore.records.project.Project.LOGO_THUMBNAIL_EXTENSION;
+import static com.tecknobit.novacore.records.project.Project.getLogoThumbnailUrl;
+
+/**
+ * The {@code LogoThumbnailer} class is useful to decode the project logos just once when uploaded and re-encode them
+ * in the fixed sizes of {@link #LOGO_THUMBNAIL_SIZES}, so the clients and the reports do not have to download and
+ * scale the original logos. <br>
+ * At the startup the thumbnails missing, for example of the logos uploaded before the thumbnails were introduced, are
+ * created in background. The logos which cannot be decoded, for example the SVG or WebP ones, have no thumbnails and
+ * the original logo is served in place of their thumbnails
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NovaResourcesManager
+ */
+@Component
+public class LogoThumbnailer implements ApplicationRunner, NovaResourcesManager {
+
+    /**
+     * {@code THUMBNAIL_FORMAT} the format used to encode the thumbnails
+     */
+    private static final String THUMBNAIL_FORMAT = "png";
+
+    /**
+     * {@code THUMBNAIL_CONTENT_TYPE} the content type of the thumbnails
+     */
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/png";
+
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    private final ProjectsRepository projectsRepository;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    private final BlobStorage blobStorage;
+
+    /**
+     * Constructor to init the {@link LogoThumbnailer} class
+     *
+     * @param projectsRepository: instance for the projects repository
+     * @param blobStorage: the storage where the resources are stored
+     */
+    @Autowired
+    public LogoThumbnailer(ProjectsRepository projectsRepository, BlobStorage blobStorage) {
+        this.projectsRepository = projectsRepository;
+        this.blobStorage = blobStorage;
+    }
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
+    /**
+     * Method to create in background the thumbnails missing of the logos already stored
+     *
+     * @param args: the arguments of the application
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread thumbnailer = new Thread(() -> {
+            for (String logoUrl : projectsRepository.getLogoUrls()) {
+                try {
+                    if(blobStorage.stat(getLogoThumbnailUrl(logoUrl, LARGE_LOGO_SIZE)) == null)
+                        createThumbnails(logoUrl);
+                } catch (IOException ignored) {
+                }
+            }
+        }, "nova-logo-thumbnailer");
+        thumbnailer.setDaemon(true);
+        thumbnailer.start();
+    }
+
+    /**
+     * Method to create the thumbnails of a logo, each thumbnail is scaled from the previous larger one, so the logo
+     * is decoded just once
+     *
+     * @param logoUrl: the pathname of the logo
+     *
+     * @return whether the thumbnails have been created as boolean
+     *
+     * @throws IOException when an error occurred reading the logo or writing the thumbnails
+     * @apiNote if the logo cannot be decoded, for example because its format is not supported, the thumbnails are not
+     * created and the original logo is served in their place
+     */
+    public boolean createThumbnails(String logoUrl) throws IOException {
+        BufferedImage thumbnail;
+        try (InputStream logoContent = blobStorage.get(logoUrl)) {
+            thumbnail = ImageIO.read(logoContent);
+        }
+        if(thumbnail == null)
+            return false;
+        for (int size : LOGO_THUMBNAIL_SIZES) {
+            String thumbnailUrl = getLogoThumbnailUrl(logoUrl, size);
+            thumbnail = scaleLogo(thumbnail, size);
+            ByteArrayOutputStream encodedThumbnail = new ByteArrayOutputStream();
+            ImageIO.write(thumbnail, THUMBNAIL_FORMAT, encodedThumbnail);
+            blobStorage.put(thumbnailUrl, encodedThumbnail.toByteArray(), THUMBNAIL_CONTENT_TYPE);
+        }
+        return true;
+    }
+
+    /**
+     * Method to get the original logo of a thumbnail, used to serve the original logo in place of the thumbnails
+     * not created
+     *
+     * @param thumbnailUrl: the pathname of the thumbnail
+     *
+     * @return the pathname of the original logo as {@link String}, if the pathname is not of a thumbnail or the logo
+     * does not exist {@code null} instead
+     *
+     * @throws IOException when an error occurred listing the logos
+     * @apiNote the logo is searched in the shard of the thumbnail, so just a few logos are listed
+     */
+    public String getOriginalLogoUrl(String thumbnailUrl) throws IOException {
+        for (int size : LOGO_THUMBNAIL_SIZES) {
+            String thumbnailSuffix = "_" + size + LOGO_THUMBNAIL_EXTENSION;
+            if(!thumbnailUrl.endsWith(thumbnailSuffix))
+                continue;
+            String shard = thumbnailUrl.substring(0, thumbnailUrl.lastIndexOf('/') + 1);
+            if(shard.isEmpty())
+                return null;
+            for (BlobStat logo : blobStorage.list(shard)) {
+                String logoUrl = logo.path();
+                if(getLogoThumbnailUrl(logoUrl, size).equals(thumbnailUrl))
+                    return logoUrl;
+            }
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Method to scale a logo to fit in a square of the requested size keeping its aspect ratio, the logos smaller
+     * than the size are never upscaled
+     *
+     * @param logo: the logo to scale
+     * @param size: the size of the square where the logo has to fit
+     *
+     * @return the logo scaled as {@link BufferedImage}
+     */
+    private BufferedImage scaleLogo(BufferedImage logo, int size) {
+        int width = logo.getWidth();
+        int height = logo.getHeight();
+        double scale = Math.min(1, (double) size / Math.max(width, height));
+        int scaledWidth = Math.max(1, (int) Math.round(width * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(height * scale));
+        BufferedImage scaledLogo = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaledLogo.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(logo, 0, 0, scaledWidth, scaledHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaledLogo;
+    }
+
+}
@@ -2,14 +2,37 @@ package com.tecknobit.nova.helpers.resources;
 
 import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.equinox.resourcesutils.ResourcesManager;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static com.tecknobit.novacore.records.project.Project.LARGE_LOGO_SIZE;
+import static com.tecknobit.novacore.records.project.Project.MEDIUM_LOGO_SIZE;
+import static com.tecknobit.novacore.records.project.Project.SMALL_LOGO_SIZE;
+import static com.tecknobit.novacore.records.project.Project.getLogoThumbnailUrl;
+
 /**
  * The {@code NovaResourcesManager} interface is useful to create and manage the resources files as profile pic,
- * project logo, asset and report
+ * project logo, asset and report. The resources are stored through the {@link BlobStorage} configured, so the
+ * server does not depend on where they are physically stored
  *
  * @author N7ghtm4r3 - Tecknobit
  * @see ResourcesManager
+ * @see BlobStorage
  */
 public interface NovaResourcesManager extends ResourcesManager {
 
@@ -28,11 +51,55 @@ public interface NovaResourcesManager extends ResourcesManager {
      */
     String REPORTS_DIRECTORY = "reports";
 
+    /**
+     * {@code STAGING_DIRECTORY} the staging directory where are stored the assets received through the resumable
+     * upload sessions
+     */
+    String STAGING_DIRECTORY = "staging";
+
     /**
      * {@code RESOURCES_REPORTS_PATH} the complete reports path from resources directory
      */
     String RESOURCES_REPORTS_PATH = RESOURCES_PATH + REPORTS_DIRECTORY + "/";
 
+    /**
+     * {@code DEFAULT_ASSET_CONTENT_TYPE} the content type used when the asset uploaded does not declare its one
+     */
+    String DEFAULT_ASSET_CONTENT_TYPE = "application/octet-stream";
+
+    /**
+     * {@code STORING_BUFFER_SIZE} the size of the buffer used to stream the assets on the disk
+     */
+    int STORING_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * {@code UPLOADING_ASSET_EXTENSION} the extension of the assets not completely received yet
+     */
+    String UPLOADING_ASSET_EXTENSION = ".uploading";
+
+    /**
+     * {@code SHARD_LEVELS} the number of the levels of the subdirectories where the resources are sharded
+     */
+    int SHARD_LEVELS = 2;
+
+    /**
+     * {@code SHARD_LENGTH} the number of the hex characters of the name of each shard subdirectory
+     */
+    int SHARD_LENGTH = 2;
+
+    /**
+     * {@code LOGO_THUMBNAIL_SIZES} the sizes of the thumbnails created for each project logo, from the largest one
+     */
+    int[] LOGO_THUMBNAIL_SIZES = {LARGE_LOGO_SIZE, MEDIUM_LOGO_SIZE, SMALL_LOGO_SIZE};
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    BlobStorage getBlobStorage();
+
     /**
      * Method to create the pathname for a project logo
      *
@@ -42,7 +109,8 @@ public interface NovaResourcesManager extends ResourcesManager {
      */
     @Wrapper
     default String createLogoResource(MultipartFile resource, String resourceId) {
-        return createResource(resource, LOGOS_DIRECTORY, resourceId);
+        return createShardedResource(LOGOS_DIRECTORY, resourceId,
+                resourceId + getResourceExtension(resource.getOriginalFilename()));
     }
 
     /**
@@ -53,7 +121,21 @@ public interface NovaResourcesManager extends ResourcesManager {
      */
     @Wrapper
     default String createAssetResource(MultipartFile resource, String resourceId) {
-        return createResource(resource, ASSETS_DIRECTORY, resourceId);
+        return createShardedResource(ASSETS_DIRECTORY, resourceId,
+                resourceId + getResourceExtension(resource.getOriginalFilename()));
+    }
+
+    /**
+     * Method to create the content addressed pathname for an asset, so the same content is always stored in the
+     * same pathname whatever is the name of its file
+     *
+     * @param checksum: the SHA-256 checksum of the content of the asset
+     * @return the pathname created for an asset
+     * @apiNote the pathname has no extension, the name of the file and the content type of the asset are stored with
+     * the asset
+     */
+    default String createAssetResource(String checksum) {
+        return createShardedResource(ASSETS_DIRECTORY, checksum, checksum);
     }
 
     /**
@@ -65,40 +147,260 @@ public interface NovaResourcesManager extends ResourcesManager {
      */
     @Wrapper
     default String createReportResource(MultipartFile resource, String resourceId) {
-        return createResource(resource, REPORTS_DIRECTORY, resourceId);
+        return createShardedResource(REPORTS_DIRECTORY, resourceId,
+                resourceId + getResourceExtension(resource.getOriginalFilename()));
+    }
+
+    /**
+     * Method to create the sharded pathname for a resource, the resource is placed in {@link #SHARD_LEVELS} levels
+     * of subdirectories named with the prefix of the hash of its identifier, so each directory holds just a small
+     * part of all the resources
+     *
+     * @param directory: the directory of the resource
+     * @param resourceId: the resource identifier used to shard the resource
+     * @param resourceName: the name of the file of the resource
+     * @return the sharded pathname created for the resource
+     * @apiNote the subdirectories are created by the {@link BlobStorage} when the resource is stored
+     */
+    static String createShardedResource(String directory, String resourceId, String resourceName) {
+        return directory + "/" + getShard(resourceId) + "/" + resourceName;
+    }
+
+    /**
+     * Method to get the shard of a resource
+     *
+     * @param resourceId: the resource identifier used to shard the resource
+     * @return the relative path of the shard, e.g. <b>"3f/a9"</b>, as {@link String}
+     */
+    static String getShard(String resourceId) {
+        String hash;
+        try {
+            hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(resourceId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder shard = new StringBuilder();
+        for (int level = 0; level < SHARD_LEVELS; level++) {
+            if(level > 0)
+                shard.append("/");
+            shard.append(hash, level * SHARD_LENGTH, (level + 1) * SHARD_LENGTH);
+        }
+        return shard.toString();
+    }
+
+    /**
+     * Method to get the extension of the file of a resource
+     *
+     * @param fileName: the name of the file of the resource
+     * @return the extension, dot included, as {@link String}, if the file has not an extension an empty string instead
+     */
+    static String getResourceExtension(String fileName) {
+        if(fileName == null)
+            return "";
+        int extensionIndex = fileName.lastIndexOf('.');
+        if(extensionIndex == -1 || fileName.indexOf('/', extensionIndex) != -1)
+            return "";
+        return fileName.substring(extensionIndex);
+    }
+
+    /**
+     * Method to get all the resources of a project logo, so the logo and its thumbnails
+     *
+     * @param logoUrl: the pathname of the logo
+     * @return the pathnames of the resources of the logo as {@link List} of {@link String}
+     */
+    default List<String> getLogoResources(String logoUrl) {
+        ArrayList<String> logoResources = new ArrayList<>();
+        if(logoUrl == null)
+            return logoResources;
+        logoResources.add(logoUrl);
+        for (int size : LOGO_THUMBNAIL_SIZES)
+            logoResources.add(getLogoThumbnailUrl(logoUrl, size));
+        return logoResources;
     }
 
     /**
      * Method to delete a project logo
      *
-     * @param logoId: the project logo identifier of the logo to delete
+     * @param logoUrl: the pathname of the logo to delete
      * @return whether the project logo has been deleted as boolean
      */
     @Wrapper
-    default boolean deleteLogoResource(String logoId) {
-        return deleteResource(LOGOS_DIRECTORY, logoId);
+    default boolean deleteLogoResource(String logoUrl) {
+        return deleteShardedResource(LOGOS_DIRECTORY, logoUrl);
     }
 
     /**
      * Method to delete an asset
      *
-     * @param assetId: the asset identifier of the asset to delete
+     * @param assetUrl: the pathname of the asset to delete
      * @return whether the asset has been deleted as boolean
+     * @apiNote the asset must be deleted only when is not referenced anymore by any asset uploaded
      */
     @Wrapper
-    default boolean deleteAssetResource(String assetId) {
-        return deleteResource(ASSETS_DIRECTORY, assetId);
+    default boolean deleteAssetResource(String assetUrl) {
+        return deleteShardedResource(ASSETS_DIRECTORY, assetUrl);
     }
 
     /**
      * Method to delete a report
      *
-     * @param reportId: the report identifier of the report to delete
+     * @param reportPath: the pathname of the report to delete
      * @return whether the report has been deleted as boolean
      */
     @Wrapper
-    default boolean deleteReportResource(String reportId) {
-        return deleteResource(REPORTS_DIRECTORY, reportId);
+    default boolean deleteReportResource(String reportPath) {
+        return deleteShardedResource(REPORTS_DIRECTORY, reportPath);
+    }
+
+    /**
+     * Method to delete a sharded resource directly by its pathname, so without scanning its directory
+     *
+     * @param directory: the directory of the resource
+     * @param resourcePath: the pathname of the resource to delete
+     * @return whether the resource has been deleted as boolean
+     */
+    default boolean deleteShardedResource(String directory, String resourcePath) {
+        if(resourcePath == null || !resourcePath.startsWith(directory + "/") || resourcePath.contains(".."))
+            return false;
+        try {
+            return getBlobStorage().delete(resourcePath);
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to store a resource uploaded, as a project logo, in its pathname
+     *
+     * @param resource: the resource to store
+     * @param resourcePath: the pathname of the resource
+     *
+     * @throws IOException when an error occurred storing the resource
+     */
+    default void storeResource(MultipartFile resource, String resourcePath) throws IOException {
+        Path stagingResource = createStagingResource();
+        try {
+            resource.transferTo(stagingResource);
+            getBlobStorage().put(resourcePath, stagingResource, resource.getContentType());
+        } finally {
+            Files.deleteIfExists(stagingResource);
+        }
+    }
+
+    /**
+     * Method to create the pathname of a local file where stage the content of a resource before storing it, the
+     * staged files are never shared between the nodes of the server <br>
+     * No-any params required
+     *
+     * @return the pathname of the staged file as {@link Path}
+     *
+     * @throws IOException when the directory of the staged files cannot be created
+     * @apiNote the staged files left by the uploads interrupted are deleted by the {@link StorageCollector}
+     */
+    default Path createStagingResource() throws IOException {
+        Path stagingDirectory = Files.createDirectories(Path.of(RESOURCES_PATH + ASSETS_DIRECTORY));
+        return stagingDirectory.resolve("." + UUID.randomUUID() + UPLOADING_ASSET_EXTENSION);
+    }
+
+    /**
+     * Method to store an asset computing its size and its SHA-256 checksum while its content is streamed on the disk,
+     * so the asset has not to be read again to get those details
+     *
+     * @param asset: the asset to store
+     *
+     * @return the details of the asset stored as {@link StoredAsset}
+     *
+     * @throws IOException when an error occurred storing the asset
+     */
+    @Wrapper
+    default StoredAsset storeAsset(MultipartFile asset) throws IOException {
+        try (InputStream content = asset.getInputStream()) {
+            return storeAsset(content, asset.getContentType());
+        }
+    }
+
+    /**
+     * Method to store an asset computing its size and its SHA-256 checksum while its content is streamed on the disk.
+     * The content is staged on the local disk through a {@link FileChannel}, so the asset is never buffered in
+     * memory, and then is stored in its content addressed pathname
+     *
+     * @param content: the stream of the content of the asset
+     * @param contentType: the content type declared for the asset
+     *
+     * @return the details of the asset stored as {@link StoredAsset}
+     *
+     * @throws IOException when an error occurred storing the asset
+     * @apiNote if the same content has been already stored the content received is discarded and the asset stored
+     * will share the pathname of the previous one
+     */
+    default StoredAsset storeAsset(InputStream content, String contentType) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        long size = 0;
+        Path uploadingAsset = createStagingResource();
+        ReadableByteChannel source = Channels.newChannel(content);
+        try {
+            try (FileChannel destination = FileChannel.open(uploadingAsset, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(STORING_BUFFER_SIZE);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining())
+                        size += destination.write(buffer);
+                    buffer.clear();
+                }
+            }
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            if(contentType == null || contentType.isBlank())
+                contentType = DEFAULT_ASSET_CONTENT_TYPE;
+            return new StoredAsset(moveAsset(uploadingAsset, checksum, contentType), size, checksum, contentType);
+        } finally {
+            Files.deleteIfExists(uploadingAsset);
+        }
+    }
+
+    /**
+     * Method to move an asset received in its content addressed pathname of the {@link BlobStorage}
+     *
+     * @param source: the path of the asset received
+     * @param checksum: the SHA-256 checksum of the content of the asset
+     * @param contentType: the content type of the asset
+     *
+     * @return the content addressed pathname of the asset as {@link String}
+     *
+     * @throws IOException when an error occurred moving the asset
+     * @apiNote if the same content has been already stored the asset received is deleted instead, so the caller must
+     * check that the content still exists after having inserted the asset which references it, because until then the
+     * content could be collected as not referenced
+     */
+    default String moveAsset(Path source, String checksum, String contentType) throws IOException {
+        String assetPath = createAssetResource(checksum);
+        BlobStorage blobStorage = getBlobStorage();
+        if(blobStorage.stat(assetPath) != null)
+            Files.deleteIfExists(source);
+        else
+            blobStorage.put(assetPath, source, contentType);
+        return assetPath;
+    }
+
+    /**
+     * The {@code StoredAsset} record is useful to represent the details of an asset stored
+     *
+     * @param path: the content addressed pathname of the asset
+     * @param size: the size in bytes of the asset
+     * @param checksum: the SHA-256 checksum of the content of the asset
+     * @param contentType: the content type of the asset
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    record StoredAsset(String path, long size, String checksum, String contentType) {
     }
 
 }
@@ -1,10 +1,20 @@
 package com.tecknobit.nova.helpers.resources;
        
+import com.tecknobit.nova.helpers.resources.storage.BlobResource;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
+import java.io.IOException;
+
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.ASSETS_DIRECTORY;
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.LOGOS_DIRECTORY;
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.STAGING_DIRECTORY;
+
 /**
  * The {@code ResourceConfigs} class is useful to set the configuration of the resources to correctly serve the
  * images by the server
@@ -15,12 +25,29 @@ import org.springframework.web.servlet.resource.PathResourceResolver;
 @Configuration
 public class ResourcesConfig implements WebMvcConfigurer {
 
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    @Autowired
+    private BlobStorage blobStorage;
+
+    /**
+     * {@code logoThumbnailer} the creator of the thumbnails of the logos, used to serve the original logos in place
+     * of their thumbnails not created
+     */
+    @Autowired
+    private LogoThumbnailer logoThumbnailer;
+
     /**
      * Add handlers to serve static resources such as images, js, and, css
      * files from specific locations under web application root, the classpath,
      * and others.
      *
      * @see ResourceHandlerRegistry
+     * @apiNote the assets are not served by this handler because can be downloaded only by the members of the related
+     * project through the dedicated endpoint, as well as the assets staged by the upload sessions. When the resources
+     * are not stored on the local disk they are read from the {@link BlobStorage}. The logos which have no thumbnails,
+     * because could not be decoded, are served in place of their thumbnails
      */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
@@ -28,7 +55,38 @@ public class ResourcesConfig implements WebMvcConfigurer {
                 .addResourceLocations("file:resources/")
                 .setCachePeriod(0)
                 .resourceChain(true)
-                .addResolver(new PathResourceResolver());
+                .addResolver(new PathResourceResolver() {
+                    @Override
+                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
+                        if(resourcePath.startsWith(ASSETS_DIRECTORY + "/")
+                                || resourcePath.startsWith(STAGING_DIRECTORY + "/") || resourcePath.contains(".."))
+                            return null;
+                        Resource resource = getStoredResource(resourcePath, location);
+                        if(resource == null && resourcePath.startsWith(LOGOS_DIRECTORY + "/")) {
+                            String logoUrl = logoThumbnailer.getOriginalLogoUrl(resourcePath);
+                            if(logoUrl != null)
+                                resource = getStoredResource(logoUrl, location);
+                        }
+                        return resource;
+                    }
+
+                    /**
+                     * Method to get a resource stored
+                     *
+                     * @param resourcePath: the pathname of the resource
+                     * @param location: the location where the local resources are stored
+                     *
+                     * @return the resource as {@link Resource}, if not exists {@code null} instead
+                     *
+                     * @throws IOException when an error occurred reading the resource
+                     */
+                    private Resource getStoredResource(String resourcePath, Resource location) throws IOException {
+                        if(blobStorage.getLocalPath(resourcePath) != null)
+                            return super.getResource(resourcePath, location);
+                        BlobResource resource = new BlobResource(blobStorage, resourcePath);
+                        return resource.exists() ? resource : null;
+                    }
+                });
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.tecknobit.nova.helpers.resources;
+
+import com.tecknobit.nova.helpers.ReportsIndex;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.services.repositories.projectsutils.ProjectsRepository;
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.NotificationsRepository;
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.ReleaseEventsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.function.BiConsumer;
+
+/**
+ * The {@code ResourcesShardingMigration} class is useful to migrate, just once, the resources stored with the flat
+ * layout of the previous versions in the sharded layout, relocating also the pathnames stored in the database. <br>
+ * The migration is executed at the startup when the {@code nova.resources.shard-migration} property is enabled, e.g.
+ * java -jar Nova.jar --nova.resources.shard-migration=true, and can be safely executed again because the resources
+ * already sharded are skipped. The flat resources are read from the local resources directory and are stored through
+ * the {@link BlobStorage} in use, so they are also uploaded when a remote storage is configured
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NovaResourcesManager
+ */
+@Component
+public class ResourcesShardingMigration implements ApplicationRunner, NovaResourcesManager {
+
+    /**
+     * {@code PDF_EXTENSION} the extension of the reports
+     */
+    private static final String PDF_EXTENSION = ".pdf";
+
+    /**
+     * {@code enabled} whether the migration is enabled
+     */
+    private final boolean enabled;
+
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    private final ProjectsRepository projectsRepository;
+
+    /**
+     * {@code notificationsRepository} instance useful to manage the notifications
+     */
+    private final NotificationsRepository notificationsRepository;
+
+    /**
+     * {@code releaseEventsRepository} instance for the events of releases repository
+     */
+    private final ReleaseEventsRepository releaseEventsRepository;
+
+    /**
+     * {@code reportsIndex} the index of the reports already rendered
+     */
+    private final ReportsIndex reportsIndex;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    private final BlobStorage blobStorage;
+
+    /**
+     * Constructor to init the {@link ResourcesShardingMigration} class
+     *
+     * @param enabled: whether the migration is enabled
+     * @param projectsRepository: instance for the projects repository
+     * @param notificationsRepository: instance useful to manage the notifications
+     * @param releaseEventsRepository: instance for the events of releases repository
+     * @param reportsIndex: the index of the reports already rendered
+     * @param blobStorage: the storage where the resources are stored
+     */
+    @Autowired
+    public ResourcesShardingMigration(@Value("${nova.resources.shard-migration:false}") boolean enabled,
+                                      ProjectsRepository projectsRepository,
+                                      NotificationsRepository notificationsRepository,
+                                      ReleaseEventsRepository releaseEventsRepository, ReportsIndex reportsIndex,
+                                      BlobStorage blobStorage) {
+        this.enabled = enabled;
+        this.projectsRepository = projectsRepository;
+        this.notificationsRepository = notificationsRepository;
+        this.releaseEventsRepository = releaseEventsRepository;
+        this.reportsIndex = reportsIndex;
+        this.blobStorage = blobStorage;
+    }
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
+    /**
+     * Method to execute the migration if enabled
+     *
+     * @param args: the arguments of the application
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if(!enabled)
+            return;
+        relocateResources(LOGOS_DIRECTORY, (previousLogoUrl, logoUrl) -> {
+            projectsRepository.relocateLogo(previousLogoUrl, logoUrl);
+            notificationsRepository.relocateProjectLogo(previousLogoUrl, logoUrl);
+        });
+        relocateResources(ASSETS_DIRECTORY, releaseEventsRepository::relocateAsset);
+        reportsIndex.relocateReports();
+        File[] flatReports = new File(RESOURCES_PATH + REPORTS_DIRECTORY).listFiles(report -> report.isFile()
+                && report.getName().endsWith(PDF_EXTENSION));
+        if(flatReports != null)
+            for (File flatReport : flatReports)
+                flatReport.delete();
+    }
+
+    /**
+     * Method to relocate the resources stored with the flat layout in a directory in their sharded pathname
+     *
+     * @param directory: the directory of the resources to relocate
+     * @param relocator: the relocator of the pathnames stored in the database, it receives the previous pathname
+     * and the new pathname
+     */
+    private void relocateResources(String directory, BiConsumer<String, String> relocator) {
+        File[] flatResources = new File(RESOURCES_PATH + directory).listFiles(resource -> resource.isFile()
+                && !resource.getName().startsWith("."));
+        if(flatResources == null)
+            return;
+        for (File flatResource : flatResources) {
+            String resourceName = flatResource.getName();
+            String resourceId = resourceName;
+            int extensionIndex = resourceName.lastIndexOf('.');
+            if(extensionIndex != -1)
+                resourceId = resourceName.substring(0, extensionIndex);
+            String previousResourcePath = directory + "/" + resourceName;
+            String resourcePath = NovaResourcesManager.createShardedResource(directory, resourceId, resourceName);
+            try {
+                blobStorage.put(resourcePath, flatResource.toPath(), Files.probeContentType(flatResource.toPath()));
+            } catch (IOException e) {
+                continue;
+            }
+            try {
+                relocator.accept(previousResourcePath, resourcePath);
+            } catch (RuntimeException e) {
+                try (InputStream shardedResource = blobStorage.get(resourcePath)) {
+                    Files.copy(shardedResource, flatResource.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    blobStorage.delete(resourcePath);
+                } catch (IOException ignored) {
+                }
+                throw e;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,341 @@
+package com.tecknobit.nova.helpers.resources;
+
+import com.tecknobit.nova.helpers.ReportsIndex;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
+import com.tecknobit.nova.helpers.services.BatchInsertsHelper;
+import com.tecknobit.nova.helpers.services.repositories.StorageTombstonesRepository;
+import com.tecknobit.nova.helpers.services.repositories.projectsutils.ProjectsRepository;
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.ReleaseEventsRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.tecknobit.equinox.environment.controllers.EquinoxController.generateIdentifier;
+import static com.tecknobit.equinox.environment.records.EquinoxItem.IDENTIFIER_KEY;
+import static com.tecknobit.nova.helpers.resources.StorageTombstone.*;
+
+/**
+ * The {@code StorageCollector} class is useful to delete from the disk, in background and at a controlled rate, the
+ * resources not referenced anymore. <br>
+ * The resources to delete are buried as {@link StorageTombstone} in the same transaction where their references are
+ * deleted, so the requests which delete releases or projects do not wait for the files to be unlinked. Each
+ * collection also scans a shard of the resources directories to reclaim the orphan files, which have no reference
+ * in the database. The reports are indexed only by the node which rendered them, so their directory is scanned only
+ * when the resources are stored on the local disk of the node
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NovaResourcesManager
+ */
+@Service
+public class StorageCollector implements NovaResourcesManager {
+
+    /**
+     * {@code BURY_RESOURCES_QUERY} the query used to bury the resources to delete
+     */
+    private static final String BURY_RESOURCES_QUERY =
+            "INSERT INTO " + STORAGE_TOMBSTONES_KEY +
+                    "(" +
+                    IDENTIFIER_KEY + "," +
+                    RESOURCE_PATH_KEY + "," +
+                    BURIAL_DATE_KEY +
+                    ")" +
+                    " VALUES ";
+
+    /**
+     * {@code TOMBSTONE_VALUES_SLICE} query part to insert a new tombstone
+     */
+    private static final String TOMBSTONE_VALUES_SLICE = "(?, ?, ?)";
+
+    /**
+     * {@code COLLECTING_BATCH_SIZE} the max number of the tombstones fetched at once
+     */
+    private static final int COLLECTING_BATCH_SIZE = 500;
+
+    /**
+     * {@code COLLECTING_GRACE_PERIOD} the time after that a resource buried, or a file without references, can be
+     * collected, so the files stored or reused by the uploads still in progress are never reclaimed
+     */
+    private static final long COLLECTING_GRACE_PERIOD = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * {@code SHARDS_COUNT} the number of the first level shards of each resources directory
+     */
+    private static final int SHARDS_COUNT = 1 << (SHARD_LENGTH * 4);
+
+    /**
+     * {@code LOCAL_STORAGE_BACKEND} the value of the {@code nova.storage.backend} property when the resources are
+     * stored on the local disk
+     */
+    private static final String LOCAL_STORAGE_BACKEND = "local";
+
+    /**
+     * {@code LOGO_THUMBNAIL_SUFFIX_REGEX} the regex used to match the size suffix of the thumbnails of the logos
+     */
+    private static final String LOGO_THUMBNAIL_SUFFIX_REGEX = "_\\d+$";
+
+    /**
+     * {@code tombstonesRepository} instance for the tombstones repository
+     */
+    @Autowired
+    private StorageTombstonesRepository tombstonesRepository;
+
+    /**
+     * {@code releaseEventsRepository} instance for the events of releases repository
+     */
+    @Autowired
+    private ReleaseEventsRepository releaseEventsRepository;
+
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    @Autowired
+    private ProjectsRepository projectsRepository;
+
+    /**
+     * {@code reportsIndex} the index of the reports already rendered
+     */
+    @Autowired
+    private ReportsIndex reportsIndex;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    @Autowired
+    private BlobStorage blobStorage;
+
+    /**
+     * {@code transactionTemplate} the template used to check the references of an asset and to delete it in a single
+     * transaction
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * {@code batchInsertsHelper} helper to insert the tombstones with a single query
+     */
+    @Autowired
+    private BatchInsertsHelper batchInsertsHelper;
+
+    /**
+     * {@code deletionInterval} the minimum interval, in nanoseconds, between two deletions
+     */
+    private final long deletionInterval;
+
+    /**
+     * {@code orphansDirectories} the resources directories scanned looking for the orphan files
+     */
+    private final List<String> orphansDirectories;
+
+    /**
+     * {@code nextShard} the next shard to scan looking for the orphan files
+     */
+    private int nextShard;
+
+    /**
+     * Constructor to init the {@link StorageCollector} class
+     *
+     * @param deletionsRate: the max number of the files deleted each second
+     * @param storageBackend: the backend where the resources are stored
+     */
+    public StorageCollector(@Value("${nova.storage.collector-rate:100}") int deletionsRate,
+                            @Value("${nova.storage.backend:" + LOCAL_STORAGE_BACKEND + "}") String storageBackend) {
+        deletionInterval = TimeUnit.SECONDS.toNanos(1) / Math.max(1, deletionsRate);
+        if(LOCAL_STORAGE_BACKEND.equals(storageBackend))
+            orphansDirectories = List.of(LOGOS_DIRECTORY, ASSETS_DIRECTORY, REPORTS_DIRECTORY);
+        else
+            orphansDirectories = List.of(LOGOS_DIRECTORY, ASSETS_DIRECTORY);
+    }
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
+    /**
+     * Method to bury the resources to delete, the tombstones are inserted in the transaction of the caller, if any,
+     * so they are committed together with the deletion of the references of the resources
+     *
+     * @param resourcePaths: the pathnames of the resources to delete
+     */
+    @Transactional
+    public void buryResources(Collection<String> resourcePaths) {
+        LinkedHashSet<String> buriedResources = new LinkedHashSet<>();
+        for (String resourcePath : resourcePaths)
+            if(resourcePath != null)
+                buriedResources.add(resourcePath);
+        long burialDate = System.currentTimeMillis();
+        batchInsertsHelper.executeInsertBatch(BURY_RESOURCES_QUERY, TOMBSTONE_VALUES_SLICE, buriedResources, query -> {
+            int index = 1;
+            for (String resourcePath : buriedResources) {
+                query.setParameter(index++, generateIdentifier());
+                query.setParameter(index++, resourcePath);
+                query.setParameter(index++, burialDate);
+            }
+        });
+    }
+
+    /**
+     * Method to collect the resources buried and then to scan the next shard of the resources directories looking for
+     * the orphan files <br>
+     * No-any params required
+     *
+     * @apiNote a resource buried is deleted only after the {@link #COLLECTING_GRACE_PERIOD} and only if has not been
+     * referenced again in the meantime, for example when the same content of an asset has been uploaded again
+     */
+    @Scheduled(
+            initialDelayString = "${nova.storage.collector-delay:60000}",
+            fixedDelayString = "${nova.storage.collector-delay:60000}"
+    )
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void collectResources() {
+        long nextDeletion = System.nanoTime();
+        List<StorageTombstone> tombstones;
+        do {
+            tombstones = tombstonesRepository.getOldestTombstones(System.currentTimeMillis()
+                    - COLLECTING_GRACE_PERIOD, COLLECTING_BATCH_SIZE);
+            Set<String> reportPaths = reportsIndex.getReportPaths();
+            ArrayList<String> collectedTombstones = new ArrayList<>();
+            for (StorageTombstone tombstone : tombstones) {
+                nextDeletion = collectResource(tombstone.getResourcePath(), reportPaths, nextDeletion);
+                collectedTombstones.add(tombstone.getId());
+            }
+            if(!collectedTombstones.isEmpty())
+                tombstonesRepository.deleteTombstones(collectedTombstones);
+        } while (tombstones.size() == COLLECTING_BATCH_SIZE);
+        scanOrphans(nextDeletion);
+    }
+
+    /**
+     * Method to scan the next shard of the resources directories deleting the orphan files, also the assets left by
+     * the uploads interrupted are deleted
+     *
+     * @param nextDeletion: the time, in nanoseconds, when the next deletion is allowed
+     */
+    private void scanOrphans(long nextDeletion) {
+        long orphansThreshold = System.currentTimeMillis() - COLLECTING_GRACE_PERIOD;
+        File[] uploadingAssets = new File(RESOURCES_PATH + ASSETS_DIRECTORY).listFiles(asset -> asset.isFile()
+                && asset.getName().endsWith(UPLOADING_ASSET_EXTENSION) && asset.lastModified() < orphansThreshold);
+        if(uploadingAssets != null) {
+            for (File uploadingAsset : uploadingAssets) {
+                nextDeletion = awaitDeletion(nextDeletion);
+                uploadingAsset.delete();
+            }
+        }
+        String shard = String.format("%0" + SHARD_LENGTH + "x", nextShard);
+        nextShard = (nextShard + 1) % SHARDS_COUNT;
+        Set<String> reportPaths = reportsIndex.getReportPaths();
+        for (String directory : orphansDirectories) {
+            List<BlobStat> shardResources;
+            try {
+                shardResources = blobStorage.list(directory + "/" + shard + "/");
+            } catch (IOException e) {
+                continue;
+            }
+            for (BlobStat resource : shardResources) {
+                if(resource.lastModified() < orphansThreshold)
+                    nextDeletion = collectResource(resource.path(), reportPaths, nextDeletion);
+            }
+        }
+    }
+
+    /**
+     * Method to delete a resource when is not referenced anymore. The references of an asset are checked again
+     * locking them in the transaction which deletes the asset, so an upload which is inserting an asset with the same
+     * content waits until the asset has been deleted and then notices that its content is missing
+     *
+     * @param resourcePath: the pathname of the resource to collect
+     * @param reportPaths: the pathnames of the reports indexed
+     * @param nextDeletion: the time, in nanoseconds, when the next deletion is allowed
+     *
+     * @return the time, in nanoseconds, when the following deletion will be allowed as long
+     */
+    private long collectResource(String resourcePath, Set<String> reportPaths, long nextDeletion) {
+        if(isReferenced(resourcePath, reportPaths))
+            return nextDeletion;
+        nextDeletion = awaitDeletion(nextDeletion);
+        if(resourcePath.startsWith(ASSETS_DIRECTORY + "/")) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if(releaseEventsRepository.lockAssetReferences(resourcePath) == 0)
+                    deleteResource(resourcePath);
+            });
+        } else
+            deleteResource(resourcePath);
+        return nextDeletion;
+    }
+
+    /**
+     * Method to check whether a resource is still referenced
+     *
+     * @param resourcePath: the pathname of the resource to check
+     * @param reportPaths: the pathnames of the reports indexed
+     *
+     * @return whether the resource is still referenced as boolean
+     */
+    private boolean isReferenced(String resourcePath, Set<String> reportPaths) {
+        if(resourcePath.startsWith(ASSETS_DIRECTORY + "/"))
+            return releaseEventsRepository.countAssetReferences(resourcePath) > 0;
+        else if(resourcePath.startsWith(LOGOS_DIRECTORY + "/"))
+            return projectsRepository.countLogoReferences(getLogoName(resourcePath)) > 0;
+        else if(resourcePath.startsWith(REPORTS_DIRECTORY + "/"))
+            return reportPaths.contains(resourcePath);
+        return true;
+    }
+
+    /**
+     * Method to get the pathname of a logo without its extension and, if the logo is a thumbnail, without its size
+     * suffix
+     *
+     * @param logoPath: the pathname of the logo or of one of its thumbnails
+     *
+     * @return the pathname of the logo without its extension as {@link String}
+     */
+    private String getLogoName(String logoPath) {
+        String logoName = logoPath;
+        int extensionIndex = logoName.lastIndexOf('.');
+        if(extensionIndex > logoName.lastIndexOf('/'))
+            logoName = logoName.substring(0, extensionIndex);
+        return logoName.replaceFirst(LOGO_THUMBNAIL_SUFFIX_REGEX, "");
+    }
+
+    /**
+     * Method to delete a resource from the disk
+     *
+     * @param resourcePath: the pathname of the resource to delete
+     */
+    private void deleteResource(String resourcePath) {
+        int directoryIndex = resourcePath.indexOf('/');
+        if(directoryIndex != -1)
+            deleteShardedResource(resourcePath.substring(0, directoryIndex), resourcePath);
+    }
+
+    /**
+     * Method to wait until the next deletion is allowed, so the deletions never exceed the configured rate
+     *
+     * @param nextDeletion: the time, in nanoseconds, when the next deletion is allowed
+     *
+     * @return the time, in nanoseconds, when the following deletion will be allowed as long
+     */
+    private long awaitDeletion(long nextDeletion) {
+        long now = System.nanoTime();
+        if(nextDeletion > now)
+            LockSupport.parkNanos(nextDeletion - now);
+        return Math.max(nextDeletion, now) + deletionInterval;
+    }
+
+}
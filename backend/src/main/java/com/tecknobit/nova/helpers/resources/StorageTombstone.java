@@ -0,0 +1,102 @@
+package com.tecknobit.nova.helpers.resources;
+
+import com.tecknobit.equinox.environment.records.EquinoxItem;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * The {@code StorageTombstone} class is useful to represent a resource file which is not referenced anymore and that
+ * must be deleted from the disk by the {@link StorageCollector}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see EquinoxItem
+ */
+@Entity
+@Table(
+        name = StorageTombstone.STORAGE_TOMBSTONES_KEY,
+        indexes = {
+                @Index(
+                        name = "storage_tombstones_burial_index",
+                        columnList = StorageTombstone.BURIAL_DATE_KEY
+                )
+        }
+)
+public class StorageTombstone extends EquinoxItem {
+
+    /**
+     * {@code STORAGE_TOMBSTONES_KEY} the key for the <b>"storage_tombstones"</b> field
+     */
+    public static final String STORAGE_TOMBSTONES_KEY = "storage_tombstones";
+
+    /**
+     * {@code RESOURCE_PATH_KEY} the key for the <b>"resource_path"</b> field
+     */
+    public static final String RESOURCE_PATH_KEY = "resource_path";
+
+    /**
+     * {@code BURIAL_DATE_KEY} the key for the <b>"burial_date"</b> field
+     */
+    public static final String BURIAL_DATE_KEY = "burial_date";
+
+    /**
+     * {@code resourcePath} the pathname of the resource to delete
+     */
+    @Column(
+            name = RESOURCE_PATH_KEY,
+            columnDefinition = "TEXT"
+    )
+    private final String resourcePath;
+
+    /**
+     * {@code burialDate} the date when the resource has been buried
+     */
+    @Column(name = BURIAL_DATE_KEY)
+    private final long burialDate;
+
+    /**
+     * Constructor to init the {@link StorageTombstone} class <br>
+     *
+     * No-any params required
+     *
+     * @apiNote empty constructor required
+     */
+    public StorageTombstone() {
+        this(null, null, -1);
+    }
+
+    /**
+     * Constructor to init the {@link StorageTombstone} class
+     *
+     * @param id: the identifier of the tombstone
+     * @param resourcePath: the pathname of the resource to delete
+     * @param burialDate: the date when the resource has been buried
+     */
+    public StorageTombstone(String id, String resourcePath, long burialDate) {
+        super(id);
+        this.resourcePath = resourcePath;
+        this.burialDate = burialDate;
+    }
+
+    /**
+     * Method to get {@link #resourcePath} instance <br>
+     * No-any params required
+     *
+     * @return {@link #resourcePath} instance as {@link String}
+     */
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    /**
+     * Method to get {@link #burialDate} instance <br>
+     * No-any params required
+     *
+     * @return {@link #burialDate} instance as long
+     */
+    public long getBurialDate() {
+        return burialDate;
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.tecknobit.nova.helpers.resources.storage;
+
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@code BlobResource} class is useful to expose a resource of a {@link BlobStorage} as a {@link Resource}, so
+ * it can be served by the handlers of Spring whatever the storage is
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see AbstractResource
+ */
+public class BlobResource extends AbstractResource {
+
+    /**
+     * {@code blobStorage} the storage where the resource is stored
+     */
+    private final BlobStorage blobStorage;
+
+    /**
+     * {@code resourcePath} the pathname of the resource
+     */
+    private final String resourcePath;
+
+    /**
+     * {@code stat} the details of the resource, fetched just once
+     */
+    private BlobStat stat;
+
+    /**
+     * {@code statFetched} whether the details of the resource have been already fetched
+     */
+    private boolean statFetched;
+
+    /**
+     * Constructor to init the {@link BlobResource} class
+     *
+     * @param blobStorage: the storage where the resource is stored
+     * @param resourcePath: the pathname of the resource
+     */
+    public BlobResource(BlobStorage blobStorage, String resourcePath) {
+        this.blobStorage = blobStorage;
+        this.resourcePath = resourcePath;
+    }
+
+    /**
+     * Method to get whether the resource exists <br>
+     * No-any params required
+     *
+     * @return whether the resource exists as boolean
+     */
+    @Override
+    public boolean exists() {
+        try {
+            return getStat() != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method to get the size of the resource <br>
+     * No-any params required
+     *
+     * @return the size of the resource as long
+     *
+     * @throws IOException when the resource cannot be resolved
+     */
+    @Override
+    public long contentLength() throws IOException {
+        return requireStat().size();
+    }
+
+    /**
+     * Method to get when the resource has been stored <br>
+     * No-any params required
+     *
+     * @return the time, in milliseconds, when the resource has been stored as long
+     *
+     * @throws IOException when the resource cannot be resolved
+     */
+    @Override
+    public long lastModified() throws IOException {
+        return requireStat().lastModified();
+    }
+
+    /**
+     * Method to get the name of the file of the resource <br>
+     * No-any params required
+     *
+     * @return the name of the file as {@link String}
+     */
+    @Override
+    public String getFilename() {
+        return resourcePath.substring(resourcePath.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Method to get the description of the resource <br>
+     * No-any params required
+     *
+     * @return the description as {@link String}
+     */
+    @Override
+    public String getDescription() {
+        return "Blob resource [" + resourcePath + "]";
+    }
+
+    /**
+     * Method to get the stream of the content of the resource <br>
+     * No-any params required
+     *
+     * @return the stream of the content as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return blobStorage.get(resourcePath);
+    }
+
+    /**
+     * Method to get the details of the resource fetching them just once <br>
+     * No-any params required
+     *
+     * @return the details of the resource as {@link BlobStat}, if the resource does not exist {@code null} instead
+     *
+     * @throws IOException when an error occurred reading the details
+     */
+    private BlobStat getStat() throws IOException {
+        if(!statFetched) {
+            stat = blobStorage.stat(resourcePath);
+            statFetched = true;
+        }
+        return stat;
+    }
+
+    /**
+     * Method to get the details of the resource failing if it does not exist <br>
+     * No-any params required
+     *
+     * @return the details of the resource as {@link BlobStat}
+     *
+     * @throws IOException when the resource does not exist or its details cannot be read
+     */
+    private BlobStat requireStat() throws IOException {
+        BlobStat blobStat = getStat();
+        if(blobStat == null)
+            throw new FileNotFoundException(getDescription() + " does not exist");
+        return blobStat;
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.tecknobit.nova.helpers.resources.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The {@code BlobStorage} interface is useful to store and to retrieve the resources files, as the logos, the assets
+ * and the reports, independently of where they are physically stored. <br>
+ * The resources are identified by their pathname relative to the resources directory, e.g.
+ * <b>"assets/3f/a9/checksum"</b>, so the pathnames stored in the database are the same for all the
+ * implementations
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see LocalBlobStorage
+ * @see S3BlobStorage
+ */
+public interface BlobStorage {
+
+    /**
+     * Method to store a resource moving a local file in its pathname
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param source: the local file with the content of the resource
+     * @param contentType: the content type of the resource
+     *
+     * @throws IOException when an error occurred storing the resource
+     * @apiNote the source file is consumed, so is not available anymore after this method
+     */
+    void put(String resourcePath, Path source, String contentType) throws IOException;
+
+    /**
+     * Method to store a small resource whose content is held in memory
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param content: the content of the resource
+     * @param contentType: the content type of the resource
+     *
+     * @throws IOException when an error occurred storing the resource
+     */
+    void put(String resourcePath, byte[] content, String contentType) throws IOException;
+
+    /**
+     * Method to get the stream of the content of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the stream of the content as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource, {@link java.nio.file.NoSuchFileException} if
+     * the resource does not exist
+     */
+    InputStream get(String resourcePath) throws IOException;
+
+    /**
+     * Method to get the stream of a range of the content of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param start: the first byte of the range, inclusive
+     * @param end: the last byte of the range, inclusive
+     *
+     * @return the stream of the range as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource, {@link java.nio.file.NoSuchFileException} if
+     * the resource does not exist
+     */
+    InputStream get(String resourcePath, long start, long end) throws IOException;
+
+    /**
+     * Method to delete a resource
+     *
+     * @param resourcePath: the pathname of the resource to delete
+     *
+     * @return whether the resource has been deleted, or did not exist, as boolean
+     *
+     * @throws IOException when an error occurred deleting the resource
+     */
+    boolean delete(String resourcePath) throws IOException;
+
+    /**
+     * Method to get the details of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the details of the resource as {@link BlobStat}, if the resource does not exist {@code null} instead
+     *
+     * @throws IOException when an error occurred reading the details
+     */
+    BlobStat stat(String resourcePath) throws IOException;
+
+    /**
+     * Method to list the resources whose pathname starts with a prefix
+     *
+     * @param prefix: the prefix of the pathnames, e.g. <b>"assets/3f/"</b>
+     *
+     * @return the details of the resources as {@link List} of {@link BlobStat}
+     *
+     * @throws IOException when an error occurred listing the resources
+     */
+    List<BlobStat> list(String prefix) throws IOException;
+
+    /**
+     * Method to create a temporary url from which the clients can download a resource directly from the storage
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param fileName: the name of the file with which the resource is downloaded
+     * @param expiration: how long the url is valid
+     *
+     * @return the url as {@link String}, if the storage cannot serve the resources directly {@code null} instead
+     */
+    String presign(String resourcePath, String fileName, Duration expiration);
+
+    /**
+     * Method to get the local file of a resource, so it can be transferred without copies
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the local file as {@link Path}, if the resources are not stored on the local disk {@code null} instead
+     */
+    default Path getLocalPath(String resourcePath) {
+        return null;
+    }
+
+    /**
+     * The {@code BlobStat} record is useful to represent the details of a resource stored
+     *
+     * @param path: the pathname of the resource
+     * @param size: the size in bytes of the resource
+     * @param lastModified: the time, in milliseconds, when the resource has been stored
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    record BlobStat(String path, long size, long lastModified) {
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.tecknobit.nova.helpers.resources.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.RESOURCES_PATH;
+
+/**
+ * The {@code LocalBlobStorage} class is useful to store the resources on the local disk in the resources directory,
+ * this is the default storage of the server
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see BlobStorage
+ */
+@Component
+@ConditionalOnProperty(name = "nova.storage.backend", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStorage implements BlobStorage {
+
+    /**
+     * {@code resourcesDirectory} the directory where the resources are stored
+     */
+    private final Path resourcesDirectory = Path.of(RESOURCES_PATH);
+
+    /**
+     * Method to store a resource moving a local file in its pathname, the file is moved atomically when the source is
+     * on the same file system
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param source: the local file with the content of the resource
+     * @param contentType: the content type of the resource
+     *
+     * @throws IOException when an error occurred storing the resource
+     */
+    @Override
+    public void put(String resourcePath, Path source, String contentType) throws IOException {
+        Path destination = resolve(resourcePath);
+        Files.createDirectories(destination.getParent());
+        try {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Method to store a small resource whose content is held in memory
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param content: the content of the resource
+     * @param contentType: the content type of the resource
+     *
+     * @throws IOException when an error occurred storing the resource
+     */
+    @Override
+    public void put(String resourcePath, byte[] content, String contentType) throws IOException {
+        Path destination = resolve(resourcePath);
+        Files.createDirectories(destination.getParent());
+        Path tempDestination = Path.of(destination + ".tmp");
+        Files.write(tempDestination, content);
+        put(resourcePath, tempDestination, contentType);
+    }
+
+    /**
+     * Method to get the stream of the content of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the stream of the content as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource
+     */
+    @Override
+    public InputStream get(String resourcePath) throws IOException {
+        return Files.newInputStream(resolve(resourcePath));
+    }
+
+    /**
+     * Method to get the stream of a range of the content of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param start: the first byte of the range, inclusive
+     * @param end: the last byte of the range, inclusive
+     *
+     * @return the stream of the range as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource
+     */
+    @Override
+    public InputStream get(String resourcePath, long start, long end) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(resourcePath), StandardOpenOption.READ);
+        channel.position(start);
+        InputStream content = Channels.newInputStream(channel);
+        long length = end - start + 1;
+        return new InputStream() {
+
+            private long remaining = length;
+
+            @Override
+            public int read() throws IOException {
+                if(remaining <= 0)
+                    return -1;
+                int read = content.read();
+                if(read != -1)
+                    remaining--;
+                return read;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int count) throws IOException {
+                if(remaining <= 0)
+                    return -1;
+                int read = content.read(buffer, offset, (int) Math.min(count, remaining));
+                if(read > 0)
+                    remaining -= read;
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                content.close();
+            }
+
+        };
+    }
+
+    /**
+     * Method to delete a resource
+     *
+     * @param resourcePath: the pathname of the resource to delete
+     *
+     * @return whether the resource has been deleted as boolean
+     *
+     * @throws IOException when an error occurred deleting the resource
+     */
+    @Override
+    public boolean delete(String resourcePath) throws IOException {
+        return Files.deleteIfExists(resolve(resourcePath));
+    }
+
+    /**
+     * Method to get the details of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the details of the resource as {@link BlobStat}, if the resource does not exist {@code null} instead
+     *
+     * @throws IOException when an error occurred reading the details
+     */
+    @Override
+    public BlobStat stat(String resourcePath) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(resourcePath), BasicFileAttributes.class);
+            if(!attributes.isRegularFile())
+                return null;
+            return new BlobStat(resourcePath, attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method to list the resources whose pathname starts with a prefix, the prefix must be a directory
+     *
+     * @param prefix: the prefix of the pathnames, e.g. <b>"assets/3f/"</b>
+     *
+     * @return the details of the resources as {@link List} of {@link BlobStat}
+     *
+     * @throws IOException when an error occurred listing the resources
+     */
+    @Override
+    public List<BlobStat> list(String prefix) throws IOException {
+        ArrayList<BlobStat> resources = new ArrayList<>();
+        Path directory = resolve(prefix);
+        if(!Files.isDirectory(directory))
+            return resources;
+        try (Stream<Path> files = Files.walk(directory)) {
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if(!attributes.isRegularFile())
+                    continue;
+                resources.add(new BlobStat(resourcesDirectory.relativize(file).toString()
+                        .replace(File.separatorChar, '/'), attributes.size(),
+                        attributes.lastModifiedTime().toMillis()));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return resources;
+    }
+
+    /**
+     * Method to create a temporary url from which the clients can download a resource directly from the storage
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param fileName: the name of the file with which the resource is downloaded
+     * @param expiration: how long the url is valid
+     *
+     * @return {@code null} because the local resources are served by the server itself
+     */
+    @Override
+    public String presign(String resourcePath, String fileName, Duration expiration) {
+        return null;
+    }
+
+    /**
+     * Method to get the local file of a resource, so it can be transferred without copies
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the local file as {@link Path}
+     */
+    @Override
+    public Path getLocalPath(String resourcePath) {
+        return resolve(resourcePath);
+    }
+
+    /**
+     * Method to resolve the local file of a resource, the pathnames which escape the resources directory are rejected
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the local file as {@link Path}
+     */
+    private Path resolve(String resourcePath) {
+        Path resource = resourcesDirectory.resolve(resourcePath).normalize();
+        if(!resource.startsWith(resourcesDirectory.normalize()))
+            throw new IllegalArgumentException("Invalid resource path: " + resourcePath);
+        return resource;
+    }
+
+}
@@ -0,0 +1,314 @@
+package com.tecknobit.nova.helpers.resources.storage;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code S3BlobStorage} class is useful to store the resources in a bucket of an S3-compatible object storage,
+ * so the resources are shared by all the nodes of the server. <br>
+ * The storage is enabled with the {@code nova.storage.backend=s3} property and is configured with the
+ * {@code nova.storage.s3.*} properties, the endpoint can point to any S3-compatible service, e.g. a local MinIO
+ * instance
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see BlobStorage
+ */
+@Component
+@ConditionalOnProperty(name = "nova.storage.backend", havingValue = "s3")
+public class S3BlobStorage implements BlobStorage {
+
+    /**
+     * {@code NOT_FOUND_STATUS} the status code returned when a resource does not exist
+     */
+    private static final int NOT_FOUND_STATUS = 404;
+
+    /**
+     * {@code bucket} the bucket where the resources are stored
+     */
+    private final String bucket;
+
+    /**
+     * {@code s3Client} the client used to work with the bucket
+     */
+    private final S3Client s3Client;
+
+    /**
+     * {@code presigner} the presigner used to create the temporary urls of the resources
+     */
+    private final S3Presigner presigner;
+
+    /**
+     * Constructor to init the {@link S3BlobStorage} class
+     *
+     * @param endpoint: the endpoint of the storage, empty to use the default endpoint of the region
+     * @param region: the region of the bucket
+     * @param bucket: the bucket where the resources are stored
+     * @param accessKey: the access key of the storage
+     * @param secretKey: the secret key of the storage
+     * @param pathStyle: whether the bucket is addressed in the path of the urls instead of in their host, required by
+     *                 most of the S3-compatible services
+     */
+    public S3BlobStorage(@Value("${nova.storage.s3.endpoint:}") String endpoint,
+                         @Value("${nova.storage.s3.region:us-east-1}") String region,
+                         @Value("${nova.storage.s3.bucket}") String bucket,
+                         @Value("${nova.storage.s3.access-key}") String accessKey,
+                         @Value("${nova.storage.s3.secret-key}") String secretKey,
+                         @Value("${nova.storage.s3.path-style:true}") boolean pathStyle) {
+        this.bucket = bucket;
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey,
+                secretKey));
+        S3Configuration configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyle)
+                .build();
+        S3Client.Builder clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(configuration);
+        if(!endpoint.isBlank()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+        s3Client = clientBuilder.build();
+        presigner = presignerBuilder.build();
+    }
+
+    /**
+     * Method to store a resource uploading a local file in its pathname
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param source: the local file with the content of the resource
+     * @param contentType: the content type of the resource
+     *
+     * @throws IOException when an error occurred storing the resource
+     */
+    @Override
+    public void put(String resourcePath, Path source, String contentType) throws IOException {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(resourcePath)
+                    .contentType(contentType)
+                    .build(), RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            throw new IOException(e);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    /**
+     * Method to store a small resource whose content is held in memory
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param content: the content of the resource
+     * @param contentType: the content type of the resource
+     *
+     * @throws IOException when an error occurred storing the resource
+     */
+    @Override
+    public void put(String resourcePath, byte[] content, String contentType) throws IOException {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(resourcePath)
+                    .contentType(contentType)
+                    .build(), RequestBody.fromBytes(content));
+        } catch (SdkException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Method to get the stream of the content of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the stream of the content as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource
+     */
+    @Override
+    public InputStream get(String resourcePath) throws IOException {
+        return getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(resourcePath)
+                .build());
+    }
+
+    /**
+     * Method to get the stream of a range of the content of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param start: the first byte of the range, inclusive
+     * @param end: the last byte of the range, inclusive
+     *
+     * @return the stream of the range as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource
+     */
+    @Override
+    public InputStream get(String resourcePath, long start, long end) throws IOException {
+        return getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(resourcePath)
+                .range("bytes=" + start + "-" + end)
+                .build());
+    }
+
+    /**
+     * Method to execute a request to get the content of a resource
+     *
+     * @param request: the request to execute
+     *
+     * @return the stream of the content as {@link InputStream}
+     *
+     * @throws IOException when an error occurred reading the resource
+     */
+    private InputStream getObject(GetObjectRequest request) throws IOException {
+        try {
+            return s3Client.getObject(request);
+        } catch (S3Exception e) {
+            if(e.statusCode() == NOT_FOUND_STATUS)
+                throw new NoSuchFileException(request.key());
+            throw new IOException(e);
+        } catch (SdkException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Method to delete a resource
+     *
+     * @param resourcePath: the pathname of the resource to delete
+     *
+     * @return whether the resource has been deleted, or did not exist, as boolean
+     *
+     * @throws IOException when an error occurred deleting the resource
+     */
+    @Override
+    public boolean delete(String resourcePath) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(resourcePath)
+                    .build());
+            return true;
+        } catch (SdkException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Method to get the details of a resource
+     *
+     * @param resourcePath: the pathname of the resource
+     *
+     * @return the details of the resource as {@link BlobStat}, if the resource does not exist {@code null} instead
+     *
+     * @throws IOException when an error occurred reading the details
+     */
+    @Override
+    public BlobStat stat(String resourcePath) throws IOException {
+        try {
+            HeadObjectResponse resource = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(resourcePath)
+                    .build());
+            return new BlobStat(resourcePath, resource.contentLength(), resource.lastModified().toEpochMilli());
+        } catch (S3Exception e) {
+            if(e.statusCode() == NOT_FOUND_STATUS)
+                return null;
+            throw new IOException(e);
+        } catch (SdkException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Method to list the resources whose pathname starts with a prefix
+     *
+     * @param prefix: the prefix of the pathnames, e.g. <b>"assets/3f/"</b>
+     *
+     * @return the details of the resources as {@link List} of {@link BlobStat}
+     *
+     * @throws IOException when an error occurred listing the resources
+     */
+    @Override
+    public List<BlobStat> list(String prefix) throws IOException {
+        ArrayList<BlobStat> resources = new ArrayList<>();
+        try {
+            for (S3Object resource : s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .build()).contents()) {
+                resources.add(new BlobStat(resource.key(), resource.size(), resource.lastModified().toEpochMilli()));
+            }
+        } catch (SdkException e) {
+            throw new IOException(e);
+        }
+        return resources;
+    }
+
+    /**
+     * Method to create a temporary url from which the clients can download a resource directly from the bucket
+     *
+     * @param resourcePath: the pathname of the resource
+     * @param fileName: the name of the file with which the resource is downloaded
+     * @param expiration: how long the url is valid
+     *
+     * @return the url as {@link String}
+     */
+    @Override
+    public String presign(String resourcePath, String fileName, Duration expiration) {
+        return presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(resourcePath)
+                        .responseContentDisposition(ContentDisposition.attachment()
+                                .filename(fileName, StandardCharsets.UTF_8)
+                                .build()
+                                .toString())
+                        .build())
+                .build()).url().toString();
+    }
+
+    /**
+     * Method to close the clients of the storage when the service is destroyed <br>
+     * No-any params required
+     */
+    @PreDestroy
+    public void close() {
+        presigner.close();
+        s3Client.close();
+    }
+
+}
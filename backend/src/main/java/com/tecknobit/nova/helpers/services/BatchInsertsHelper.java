@@ -0,0 +1,76 @@
+package com.tecknobit.nova.helpers.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * The {@code BatchInsertsHelper} class is useful to insert many rows with a single multi-row native query. <br>
+ * The queries are executed only in the transaction of the caller, so the caller always declares which operations
+ * are committed together with the rows inserted
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+@Component
+public class BatchInsertsHelper {
+
+    /**
+     * {@code COMMA} comma character
+     */
+    private static final String COMMA = ",";
+
+    /**
+     * The {@code BatchQuery} interface is useful to bind the values of the rows to insert in a batch query
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public interface BatchQuery {
+
+        /**
+         * Method to prepare the batch query
+         *
+         * @param query: query instance used to execute the SQL command
+         */
+        void prepareQuery(Query query);
+
+    }
+
+    /**
+     * {@code entityManager} entity manager helper
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Method to execute a batch query to insert items
+     *
+     * @param insertQuery: the query used to insert new items
+     * @param valuesSlice: the query slice to use for each item to insert
+     * @param values: the values of the items to insert
+     * @param batchQuery: the batch query to use to insert in batch the new items
+     * @param <I> type of the items to insert
+     *
+     * @apiNote must be executed in the transaction of the caller
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public <I> void executeInsertBatch(String insertQuery, String valuesSlice, Collection<I> values,
+                                       BatchQuery batchQuery) {
+        if(values.isEmpty())
+            return;
+        StringBuilder queryAssembler = new StringBuilder(insertQuery);
+        int size = values.size();
+        for (int j = 0; j < size; j++) {
+            queryAssembler.append(valuesSlice);
+            if(j < size - 1)
+                queryAssembler.append(COMMA);
+        }
+        Query query = entityManager.createNativeQuery(queryAssembler.toString());
+        batchQuery.prepareQuery(query);
+        query.executeUpdate();
+    }
+
+}
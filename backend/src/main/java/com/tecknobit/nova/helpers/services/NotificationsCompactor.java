@@ -0,0 +1,124 @@
+package com.tecknobit.nova.helpers.services;
+
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.NotificationsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code NotificationsCompactor} class is useful to compact, in background, the notifications of the users. <br>
+ * For each user and release only the latest status notification not sent yet is kept, because the previous ones have
+ * been superseded, and the notifications already sent are purged once the {@code nova.notifications.retention}
+ * property elapsed, except the ones created before their creation date was stored, whose age is unknown. The
+ * notifications are deleted in small batches, each one in its own transaction and spaced by a pause, so the table is
+ * never locked for long while the server is under load. The {@code spring.task.scheduling.pool.size} property gives
+ * each scheduled job its own thread, so a long compaction never delays the heartbeats of the notifications stream
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NotificationsRepository
+ */
+@Service
+public class NotificationsCompactor {
+
+    /**
+     * {@code notificationsRepository} instance useful to manage the notifications
+     */
+    @Autowired
+    private NotificationsRepository notificationsRepository;
+
+    /**
+     * {@code retention} the time after that the notifications already sent are purged
+     */
+    private final Duration retention;
+
+    /**
+     * {@code batchSize} the max number of the notifications deleted with a single batch
+     */
+    private final int batchSize;
+
+    /**
+     * {@code batchesPause} the pause, in nanoseconds, between two batches
+     */
+    private final long batchesPause;
+
+    /**
+     * Constructor to init the {@link NotificationsCompactor} class
+     *
+     * @param retention: the time after that the notifications already sent are purged
+     * @param batchSize: the max number of the notifications deleted with a single batch
+     * @param batchesPause: the pause, in milliseconds, between two batches
+     */
+    public NotificationsCompactor(@Value("${nova.notifications.retention:30d}") Duration retention,
+                                  @Value("${nova.notifications.compaction-batch-size:200}") int batchSize,
+                                  @Value("${nova.notifications.compaction-pause:100}") long batchesPause) {
+        this.retention = retention;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchesPause = TimeUnit.MILLISECONDS.toNanos(Math.max(0, batchesPause));
+    }
+
+    /**
+     * Method to compact the notifications superseded and then to purge the notifications expired <br>
+     * No-any params required
+     */
+    @Scheduled(
+            initialDelayString = "${nova.notifications.compaction-delay:300000}",
+            fixedDelayString = "${nova.notifications.compaction-delay:300000}"
+    )
+    public void compactNotifications() {
+        compactSupersededNotifications();
+        purgeExpiredNotifications();
+    }
+
+    /**
+     * Method to delete the status notifications not sent yet which have been superseded by a newer status
+     * notification of the same release for the same user <br>
+     * No-any params required
+     */
+    private void compactSupersededNotifications() {
+        String lastNotificationId = "";
+        List<String> supersededNotifications;
+        do {
+            supersededNotifications = notificationsRepository.getSupersededNotifications(lastNotificationId,
+                    batchSize);
+            if(supersededNotifications.isEmpty())
+                return;
+            notificationsRepository.deleteNotifications(supersededNotifications);
+            lastNotificationId = supersededNotifications.get(supersededNotifications.size() - 1);
+            awaitNextBatch();
+        } while (supersededNotifications.size() == batchSize);
+    }
+
+    /**
+     * Method to delete the notifications already sent and created before the {@link #retention}, the notifications
+     * without creation date are skipped <br>
+     * No-any params required
+     */
+    private void purgeExpiredNotifications() {
+        long expirationDate = System.currentTimeMillis() - retention.toMillis();
+        List<String> expiredNotifications;
+        do {
+            expiredNotifications = notificationsRepository.getExpiredNotifications(expirationDate, batchSize);
+            if(expiredNotifications.isEmpty())
+                return;
+            notificationsRepository.deleteNotifications(expiredNotifications);
+            awaitNextBatch();
+        } while (expiredNotifications.size() == batchSize);
+    }
+
+    /**
+     * Method to wait the pause between two batches, so the compaction does not hold the table while the server is
+     * under load <br>
+     * No-any params required
+     */
+    private void awaitNextBatch() {
+        if(batchesPause > 0)
+            LockSupport.parkNanos(batchesPause);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.tecknobit.nova.helpers.services;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.novacore.records.NovaNotification;
+
+/**
+ * The {@code NotificationsCursor} class is useful to represent the position of a notification in the notifications of
+ * a user, ordered by their creation date and then by their identifier. <br>
+ * The cursor is formatted as <b>"creation_date_notification_id"</b> and is used both as identifier of the events of the
+ * {@link NotificationsStream} and to paginate the notifications of a user
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public final class NotificationsCursor {
+
+    /**
+     * {@code CURSOR_SEPARATOR} the separator between the creation date and the identifier of the notification
+     */
+    public static final char CURSOR_SEPARATOR = '_';
+
+    /**
+     * {@code START_CURSOR} the cursor placed before all the notifications
+     */
+    public static final NotificationsCursor START_CURSOR = new NotificationsCursor(-1, "");
+
+    /**
+     * {@code END_CURSOR} the cursor placed after all the notifications
+     */
+    public static final NotificationsCursor END_CURSOR = new NotificationsCursor(Long.MAX_VALUE, "");
+
+    /**
+     * {@code creationDate} the creation date of the notification
+     */
+    private final long creationDate;
+
+    /**
+     * {@code notificationId} the identifier of the notification
+     */
+    private final String notificationId;
+
+    /**
+     * Constructor to init the {@link NotificationsCursor} class
+     *
+     * @param creationDate: the creation date of the notification
+     * @param notificationId: the identifier of the notification
+     */
+    public NotificationsCursor(long creationDate, String notificationId) {
+        this.creationDate = creationDate;
+        this.notificationId = notificationId;
+    }
+
+    /**
+     * Constructor to init the {@link NotificationsCursor} class
+     *
+     * @param notification: the notification where place the cursor
+     */
+    public NotificationsCursor(NovaNotification notification) {
+        this(notification.getCreationDate(), notification.getId());
+    }
+
+    /**
+     * Method to get {@link #creationDate} instance <br>
+     * No-any params required
+     *
+     * @return {@link #creationDate} instance as long
+     */
+    public long getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * Method to get {@link #notificationId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #notificationId} instance as {@link String}
+     */
+    public String getNotificationId() {
+        return notificationId;
+    }
+
+    /**
+     * Method to get the cursor formatted as <b>"creation_date_notification_id"</b> <br>
+     * No-any params required
+     *
+     * @return the cursor formatted as {@link String}
+     */
+    @Override
+    public String toString() {
+        return creationDate + String.valueOf(CURSOR_SEPARATOR) + notificationId;
+    }
+
+    /**
+     * Method to parse a cursor formatted as <b>"creation_date_notification_id"</b>
+     *
+     * @param cursor: the cursor to parse, if any
+     *
+     * @return the cursor parsed as {@link NotificationsCursor}, {@link #START_CURSOR} if the cursor is not specified
+     * or is not valid
+     */
+    @Wrapper
+    public static NotificationsCursor parse(String cursor) {
+        return parse(cursor, START_CURSOR);
+    }
+
+    /**
+     * Method to parse a cursor formatted as <b>"creation_date_notification_id"</b>
+     *
+     * @param cursor: the cursor to parse, if any
+     * @param defaultCursor: the cursor to use when the cursor is not specified or is not valid
+     *
+     * @return the cursor parsed as {@link NotificationsCursor}, {@code defaultCursor} if the cursor is not specified
+     * or is not valid
+     */
+    public static NotificationsCursor parse(String cursor, NotificationsCursor defaultCursor) {
+        if(cursor == null)
+            return defaultCursor;
+        int separatorIndex = cursor.indexOf(CURSOR_SEPARATOR);
+        if(separatorIndex <= 0)
+            return defaultCursor;
+        try {
+            return new NotificationsCursor(Long.parseLong(cursor.substring(0, separatorIndex)),
+                    cursor.substring(separatorIndex + 1));
+        } catch (NumberFormatException e) {
+            return defaultCursor;
+        }
+    }
+
+}
@@ -0,0 +1,347 @@
+package com.tecknobit.nova.helpers.services;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.PendingNotificationsRepository;
+import com.tecknobit.novacore.records.NovaUser;
+import com.tecknobit.novacore.records.project.Project;
+import com.tecknobit.novacore.records.release.Release.ReleaseStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.equinox.environment.controllers.EquinoxController.generateIdentifier;
+import static com.tecknobit.novacore.records.project.Project.MEDIUM_LOGO_SIZE;
+import static com.tecknobit.novacore.records.project.Project.getLogoThumbnailUrl;
+
+/**
+ * The {@code NotificationsDispatcher} class is useful to fan-out the notifications to the members of the projects
+ * asynchronously, so the requests which change the status of a release do not wait that the notifications of all the
+ * members are written. <br>
+ * Each fan-out is persisted as {@link PendingNotification} in the transaction of the change which generated it and,
+ * once committed, is enqueued in a bounded queue. The queue is flushed in batches, when the
+ * {@link #FLUSH_SIZE} is reached or when the {@code nova.notifications.flush-interval} property elapsed. The fan-outs
+ * not enqueued because the queue was full, or left pending by a crash of the server, are replayed by the
+ * {@link #replayPendingNotifications()} at the startup and then periodically
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NotificationsHelper
+ */
+@Component
+public class NotificationsDispatcher {
+
+    /**
+     * {@code FLUSH_SIZE} the max number of the fan-outs dispatched with a single flush
+     */
+    private static final int FLUSH_SIZE = 100;
+
+    /**
+     * {@code REPLAY_BATCH_SIZE} the max number of the pending fan-outs fetched at once when they are replayed
+     */
+    private static final int REPLAY_BATCH_SIZE = 500;
+
+    /**
+     * {@code LOGGER} the logger used to report the dispatches failed
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationsDispatcher.class);
+
+    /**
+     * {@code flushInterval} the max time, in milliseconds, a fan-out waits in the queue before being dispatched
+     */
+    private final long flushInterval;
+
+    /**
+     * {@code pendingNotificationsRepository} instance for the pending fan-outs repository
+     */
+    private final PendingNotificationsRepository pendingNotificationsRepository;
+
+    /**
+     * {@code notificationsHelper} helper to insert the notifications of the fan-outs dispatched
+     */
+    private final NotificationsHelper notificationsHelper;
+
+    /**
+     * {@code transactionTemplate} the template used to dispatch each batch of fan-outs in a single transaction
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * {@code notificationsStream} the stream used to push the notifications dispatched to the users connected
+     */
+    private final NotificationsStream notificationsStream;
+
+    /**
+     * {@code queue} the bounded queue of the fan-outs committed and not dispatched yet
+     */
+    private final LinkedBlockingQueue<PendingNotification> queue;
+
+    /**
+     * {@code queuedNotifications} the identifiers of the fan-outs currently in the {@link #queue} or in a flush, so
+     * the replay does not enqueue them twice
+     */
+    private final Set<String> queuedNotifications = ConcurrentHashMap.newKeySet();
+
+    /**
+     * {@code dispatcher} the thread which flushes the {@link #queue}
+     */
+    private final Thread dispatcher = new Thread(this::dispatch, "nova-notifications-dispatcher");
+
+    /**
+     * {@code running} whether the {@link #dispatcher} is running
+     */
+    private volatile boolean running = true;
+
+    /**
+     * {@code lastCreationDate} the creation date assigned to the notifications of the last flush, the creation dates
+     * are strictly increasing so the notifications of a flush are never created before the ones already pushed
+     */
+    private long lastCreationDate;
+
+    /**
+     * Constructor to init the {@link NotificationsDispatcher} class
+     *
+     * @param queueCapacity: the max number of the fan-outs held in the queue
+     * @param flushInterval: the max time, in milliseconds, a fan-out waits in the queue before being dispatched
+     * @param pendingNotificationsRepository: instance for the pending fan-outs repository
+     * @param notificationsHelper: helper to insert the notifications of the fan-outs dispatched
+     * @param transactionManager: the manager used to dispatch the fan-outs in a transaction
+     * @param notificationsStream: the stream used to push the notifications dispatched to the users connected
+     */
+    @Autowired
+    public NotificationsDispatcher(@Value("${nova.notifications.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${nova.notifications.flush-interval:250}") long flushInterval,
+                                   PendingNotificationsRepository pendingNotificationsRepository,
+                                   NotificationsHelper notificationsHelper,
+                                   PlatformTransactionManager transactionManager,
+                                   NotificationsStream notificationsStream) {
+        this.flushInterval = flushInterval;
+        this.pendingNotificationsRepository = pendingNotificationsRepository;
+        this.notificationsHelper = notificationsHelper;
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        this.notificationsStream = notificationsStream;
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Method to start the {@link #dispatcher} <br>
+     * No-any params required
+     */
+    @PostConstruct
+    public void start() {
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Method to notify the members of a project about a release status change
+     *
+     * @param requesterUser: the user who made the request, who is not notified
+     * @param project: the project where the release is attached
+     * @param releaseId: the identifier of the release
+     * @param releaseVersion: the version of the release
+     * @param status: the current status of the release
+     */
+    @Wrapper
+    public void notifyReleaseStatus(String requesterUser, Project project, String releaseId, String releaseVersion,
+                                    ReleaseStatus status) {
+        enqueue(requesterUser, project, releaseId, releaseVersion, status.name());
+    }
+
+    /**
+     * Method to notify the members of a project that a release has been deleted
+     *
+     * @param requesterUser: the user who made the request, who is not notified
+     * @param project: the project where the release was attached
+     * @param releaseVersion: the version of the release deleted
+     */
+    @Wrapper
+    public void notifyReleaseDeleted(String requesterUser, Project project, String releaseVersion) {
+        enqueue(requesterUser, project, null, releaseVersion, null);
+    }
+
+    /**
+     * Method to notify the members of a project that the project has been deleted
+     *
+     * @param requesterUser: the user who made the request, who is not notified
+     * @param project: the project deleted
+     */
+    @Wrapper
+    public void notifyProjectDeleted(String requesterUser, Project project) {
+        enqueue(requesterUser, project, null, null, null);
+    }
+
+    /**
+     * Method to persist a fan-out for the members of a project, the author included, and to enqueue it once the
+     * transaction of the caller has been committed
+     *
+     * @param requesterUser: the user who made the request, who is not notified
+     * @param project: the project of the members to notify
+     * @param releaseId: the identifier of the release, if any
+     * @param releaseVersion: the version of the release, if any
+     * @param releaseStatus: the status of the release, if any
+     */
+    private void enqueue(String requesterUser, Project project, String releaseId, String releaseVersion,
+                         String releaseStatus) {
+        LinkedHashSet<String> recipients = new LinkedHashSet<>();
+        for (NovaUser member : project.getProjectMembers())
+            recipients.add(member.getId());
+        recipients.add(project.getAuthor().getId());
+        recipients.remove(requesterUser);
+        if(recipients.isEmpty())
+            return;
+        PendingNotification pendingNotification = new PendingNotification(generateIdentifier(),
+                getLogoThumbnailUrl(project.getLogoUrl(), MEDIUM_LOGO_SIZE), releaseId, releaseVersion, releaseStatus,
+                recipients, System.currentTimeMillis());
+        pendingNotificationsRepository.enqueuePendingNotification(
+                pendingNotification.getId(),
+                pendingNotification.getProjectLogo(),
+                releaseId,
+                releaseVersion,
+                releaseStatus,
+                pendingNotification.getRecipients(),
+                pendingNotification.getEnqueueDate()
+        );
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(pendingNotification);
+                }
+            });
+        } else
+            offer(pendingNotification);
+    }
+
+    /**
+     * Method to enqueue a fan-out persisted
+     *
+     * @param pendingNotification: the fan-out to enqueue
+     *
+     * @apiNote if the queue is full the fan-out is left persisted and will be dispatched by the
+     * {@link #replayPendingNotifications()}
+     */
+    private void offer(PendingNotification pendingNotification) {
+        String pendingNotificationId = pendingNotification.getId();
+        if(!queuedNotifications.add(pendingNotificationId))
+            return;
+        if(!queue.offer(pendingNotification))
+            queuedNotifications.remove(pendingNotificationId);
+    }
+
+    /**
+     * Method to enqueue the fan-outs persisted and not dispatched yet, at the startup these are the fan-outs left
+     * pending by the previous execution of the server <br>
+     * No-any params required
+     */
+    @Scheduled(fixedDelayString = "${nova.notifications.replay-delay:30000}")
+    public void replayPendingNotifications() {
+        for (PendingNotification pendingNotification :
+                pendingNotificationsRepository.getOldestPendingNotifications(REPLAY_BATCH_SIZE)) {
+            if(queue.remainingCapacity() == 0)
+                return;
+            offer(pendingNotification);
+        }
+    }
+
+    /**
+     * Method to flush the {@link #queue} in batches until the {@link #dispatcher} is stopped <br>
+     * No-any params required
+     */
+    private void dispatch() {
+        ArrayList<PendingNotification> batch = new ArrayList<>(FLUSH_SIZE);
+        while (running) {
+            try {
+                PendingNotification pendingNotification = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if(pendingNotification == null)
+                    continue;
+                batch.add(pendingNotification);
+                long flushDeadline = System.currentTimeMillis() + flushInterval;
+                while (batch.size() < FLUSH_SIZE) {
+                    long timeout = flushDeadline - System.currentTimeMillis();
+                    if(timeout <= 0)
+                        break;
+                    pendingNotification = queue.poll(timeout, TimeUnit.MILLISECONDS);
+                    if(pendingNotification == null)
+                        break;
+                    batch.add(pendingNotification);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                if(!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to dispatch a batch of fan-outs in a single transaction, the fan-outs already dispatched, for example by
+     * another node of the server, are skipped. Once committed the notifications are pushed to the users connected
+     *
+     * @param batch: the fan-outs to dispatch
+     *
+     * @apiNote if the dispatch fails the fan-outs are left persisted and will be dispatched by the
+     * {@link #replayPendingNotifications()}
+     */
+    private void flush(List<PendingNotification> batch) {
+        ArrayList<String> pendingNotificationsIds = new ArrayList<>(batch.size());
+        for (PendingNotification pendingNotification : batch)
+            pendingNotificationsIds.add(pendingNotification.getId());
+        lastCreationDate = Math.max(System.currentTimeMillis(), lastCreationDate + 1);
+        LinkedHashSet<String> notifiedUsers = new LinkedHashSet<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                HashSet<String> lockedNotifications = new HashSet<>(pendingNotificationsRepository
+                        .lockPendingNotifications(pendingNotificationsIds));
+                if(lockedNotifications.isEmpty())
+                    return;
+                for (PendingNotification pendingNotification : batch) {
+                    if(lockedNotifications.contains(pendingNotification.getId())) {
+                        notificationsHelper.insertNotifications(pendingNotification, lastCreationDate);
+                        notifiedUsers.addAll(pendingNotification.getRecipientsIds());
+                    }
+                }
+                pendingNotificationsRepository.deletePendingNotifications(new ArrayList<>(lockedNotifications));
+            });
+            if(!notifiedUsers.isEmpty())
+                notificationsStream.publish(notifiedUsers);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to dispatch a batch of {} notifications fan-outs, they will be replayed", batch.size(),
+                    e);
+        } finally {
+            pendingNotificationsIds.forEach(queuedNotifications::remove);
+        }
+    }
+
+    /**
+     * Method to stop the {@link #dispatcher} when the service is destroyed, the batch in progress is flushed and the
+     * fan-outs still queued stay persisted until the next startup <br>
+     * No-any params required
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
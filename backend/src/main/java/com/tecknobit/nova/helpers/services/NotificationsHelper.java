@@ -0,0 +1,102 @@
+package com.tecknobit.nova.helpers.services;
+
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.tecknobit.equinox.environment.controllers.EquinoxController.generateIdentifier;
+import static com.tecknobit.equinox.environment.records.EquinoxItem.IDENTIFIER_KEY;
+import static com.tecknobit.novacore.records.NovaNotification.NOTIFICATIONS_KEY;
+import static com.tecknobit.novacore.records.NovaUser.USER_KEY;
+import static com.tecknobit.novacore.records.project.Project.LOGO_URL_KEY;
+import static com.tecknobit.novacore.records.release.Release.*;
+
+/**
+ * The {@code NotificationsHelper} class is useful to insert the notifications of the fan-outs dispatched by the
+ * {@link NotificationsDispatcher}, the notifications of all the users are inserted with multi-row inserts executed in
+ * the transaction of the caller
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see BatchInsertsHelper
+ */
+@Service
+public class NotificationsHelper {
+
+    /**
+     * {@code INSERT_NOTIFICATIONS_QUERY} the query used to insert the notifications of the members of a project
+     */
+    private static final String INSERT_NOTIFICATIONS_QUERY =
+            "INSERT INTO " + NOTIFICATIONS_KEY +
+                    "(" +
+                    IDENTIFIER_KEY + "," +
+                    LOGO_URL_KEY + "," +
+                    RELEASE_IDENTIFIER_KEY + "," +
+                    RELEASE_VERSION_KEY + "," +
+                    RELEASE_STATUS_KEY + "," +
+                    USER_KEY + "," +
+                    CREATION_DATE_KEY +
+                    ")" +
+                    " VALUES ";
+
+    /**
+     * {@code NOTIFICATION_VALUES_SLICE} query part to insert a new notification
+     */
+    private static final String NOTIFICATION_VALUES_SLICE = "(?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * {@code NOTIFICATIONS_BATCH_SIZE} the max number of the notifications inserted with a single query, so the
+     * parameters of a query never exceed the limits of the database
+     */
+    private static final int NOTIFICATIONS_BATCH_SIZE = 500;
+
+    /**
+     * {@code batchInsertsHelper} helper to insert the notifications with multi-row queries
+     */
+    @Autowired
+    private BatchInsertsHelper batchInsertsHelper;
+
+    /**
+     * Method to insert the notifications of a fan-out, one for each user to notify, in chunks of
+     * {@link #NOTIFICATIONS_BATCH_SIZE} notifications
+     *
+     * @param pendingNotification: the fan-out to insert
+     * @param creationDate: the date when the notifications are created
+     *
+     * @apiNote must be executed in the transaction which dispatches the fan-out
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void insertNotifications(PendingNotification pendingNotification, long creationDate) {
+        List<String> recipients = pendingNotification.getRecipientsIds();
+        for (int j = 0; j < recipients.size(); j += NOTIFICATIONS_BATCH_SIZE) {
+            insertNotifications(pendingNotification, recipients.subList(j, Math.min(recipients.size(),
+                    j + NOTIFICATIONS_BATCH_SIZE)), creationDate);
+        }
+    }
+
+    /**
+     * Method to insert with a single query the notifications of a chunk of the users to notify
+     *
+     * @param pendingNotification: the fan-out to insert
+     * @param recipients: the identifiers of the users of the chunk
+     * @param creationDate: the date when the notifications are created
+     */
+    private void insertNotifications(PendingNotification pendingNotification, List<String> recipients,
+                                     long creationDate) {
+        batchInsertsHelper.executeInsertBatch(INSERT_NOTIFICATIONS_QUERY, NOTIFICATION_VALUES_SLICE, recipients,
+                query -> {
+                    int index = 1;
+                    for (String recipient : recipients) {
+                        query.setParameter(index++, generateIdentifier());
+                        query.setParameter(index++, pendingNotification.getProjectLogo());
+                        query.setParameter(index++, pendingNotification.getReleaseId());
+                        query.setParameter(index++, pendingNotification.getReleaseVersion());
+                        query.setParameter(index++, pendingNotification.getReleaseStatus());
+                        query.setParameter(index++, recipient);
+                        query.setParameter(index++, creationDate);
+                    }
+                });
+    }
+
+}
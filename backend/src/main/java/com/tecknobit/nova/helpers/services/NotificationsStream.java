@@ -0,0 +1,255 @@
+package com.tecknobit.nova.helpers.services;
+
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.NotificationsRepository;
+import com.tecknobit.novacore.records.NovaNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.tecknobit.nova.helpers.services.NotificationsCursor.END_CURSOR;
+import static com.tecknobit.nova.helpers.services.NotificationsCursor.START_CURSOR;
+
+/**
+ * The {@code NotificationsStream} class is useful to push the notifications to the users as soon as they are created
+ * through Server-Sent Events. <br>
+ * Each event has as identifier the {@link NotificationsCursor} of the notification pushed, so a client which
+ * reconnects sending the {@code Last-Event-ID} header receives only the notifications created in the meantime, while
+ * a new connection receives only the notifications created after it has been opened. The connections are
+ * asynchronous, so an idle connection does not hold any thread of the server, and a heartbeat is
+ * periodically sent to keep them alive
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see NotificationsDispatcher
+ */
+@Component
+public class NotificationsStream {
+
+    /**
+     * {@code NOTIFICATION_EVENT} the name of the events which push a notification
+     */
+    private static final String NOTIFICATION_EVENT = "notification";
+
+    /**
+     * {@code HEARTBEAT_COMMENT} the comment sent as heartbeat on the idle connections
+     */
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    /**
+     * {@code CATCH_UP_BATCH_SIZE} the max number of the notifications fetched at once when they are pushed
+     */
+    private static final int CATCH_UP_BATCH_SIZE = 100;
+
+    /**
+     * {@code streamTimeout} the time, in milliseconds, after that a connection is closed and the client has to
+     * reconnect
+     */
+    private final long streamTimeout;
+
+    /**
+     * {@code notificationsRepository} instance useful to manage the notifications
+     */
+    private final NotificationsRepository notificationsRepository;
+
+    /**
+     * {@code pushExecutor} the executor used to push the notifications
+     */
+    private final TaskExecutor pushExecutor;
+
+    /**
+     * {@code subscriptions} the connections opened, the key is the identifier of the user
+     */
+    private final ConcurrentHashMap<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to init the {@link NotificationsStream} class
+     *
+     * @param streamTimeout: the time, in milliseconds, after that a connection is closed and the client has to
+     * reconnect
+     * @param notificationsRepository: instance useful to manage the notifications
+     * @param pushExecutor: the executor used to push the notifications
+     */
+    @Autowired
+    public NotificationsStream(@Value("${nova.notifications.stream-timeout:1800000}") long streamTimeout,
+                               NotificationsRepository notificationsRepository,
+                               @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                               TaskExecutor pushExecutor) {
+        this.streamTimeout = streamTimeout;
+        this.notificationsRepository = notificationsRepository;
+        this.pushExecutor = pushExecutor;
+    }
+
+    /**
+     * Method to open a new connection for a user
+     *
+     * @param userId: the identifier of the user
+     * @param lastEventId: the identifier of the last event received by the client, if any
+     *
+     * @return the connection opened as {@link SseEmitter}
+     *
+     * @apiNote when the last event is not specified the stream starts from the latest notification of the user, so
+     * the history is not replayed, the client has to fetch the notifications already created with the notifications
+     * endpoint after the stream has been opened
+     */
+    public SseEmitter subscribe(String userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout);
+        NotificationsCursor lastCursor = NotificationsCursor.parse(lastEventId, null);
+        if(lastCursor == null)
+            lastCursor = getLatestCursor(userId);
+        Subscription subscription = new Subscription(userId, emitter, lastCursor);
+        subscriptions.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(error -> unsubscribe(subscription));
+        pushExecutor.execute(subscription::catchUp);
+        return emitter;
+    }
+
+    /**
+     * Method to get the cursor of the latest notification of a user
+     *
+     * @param userId: the identifier of the user
+     *
+     * @return the cursor of the latest notification as {@link NotificationsCursor},
+     * {@link NotificationsCursor#START_CURSOR} if the user has no notifications
+     */
+    private NotificationsCursor getLatestCursor(String userId) {
+        List<NovaNotification> latestNotification = notificationsRepository.getUserNotificationsBefore(userId,
+                END_CURSOR.getCreationDate(), END_CURSOR.getNotificationId(), 1);
+        if(latestNotification.isEmpty())
+            return START_CURSOR;
+        return new NotificationsCursor(latestNotification.get(0));
+    }
+
+    /**
+     * Method to push the notifications just created to the users connected
+     *
+     * @param usersIds: the identifiers of the users who received new notifications
+     */
+    public void publish(Collection<String> usersIds) {
+        for (String userId : usersIds) {
+            Set<Subscription> userSubscriptions = subscriptions.get(userId);
+            if(userSubscriptions != null)
+                for (Subscription subscription : userSubscriptions)
+                    pushExecutor.execute(subscription::catchUp);
+        }
+    }
+
+    /**
+     * Method to send the heartbeat on all the connections opened, the connections closed by the clients are
+     * released <br>
+     * No-any params required
+     */
+    @Scheduled(fixedDelayString = "${nova.notifications.heartbeat-interval:15000}")
+    public void sendHeartbeats() {
+        for (Set<Subscription> userSubscriptions : subscriptions.values())
+            for (Subscription subscription : userSubscriptions)
+                subscription.sendHeartbeat();
+    }
+
+    /**
+     * Method to release a connection closed
+     *
+     * @param subscription: the subscription of the connection
+     */
+    private void unsubscribe(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.userId, (userId, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+
+    /**
+     * The {@code Subscription} class is useful to represent a connection opened by a user, the notifications are
+     * pushed on a connection by one thread at a time and in the order of their creation
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private final class Subscription {
+
+        /**
+         * {@code userId} the identifier of the user
+         */
+        private final String userId;
+
+        /**
+         * {@code emitter} the emitter of the connection
+         */
+        private final SseEmitter emitter;
+
+        /**
+         * {@code lastCursor} the cursor of the last notification pushed
+         */
+        private NotificationsCursor lastCursor;
+
+        /**
+         * Constructor to init the {@link Subscription} class
+         *
+         * @param userId: the identifier of the user
+         * @param emitter: the emitter of the connection
+         * @param lastCursor: the cursor of the last notification received by the client
+         */
+        private Subscription(String userId, SseEmitter emitter, NotificationsCursor lastCursor) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.lastCursor = lastCursor;
+        }
+
+        /**
+         * Method to push the notifications created after the last one pushed, then they are set as sent <br>
+         * No-any params required
+         */
+        private synchronized void catchUp() {
+            try {
+                List<NovaNotification> notifications;
+                do {
+                    notifications = notificationsRepository.getUserNotificationsAfter(userId,
+                            lastCursor.getCreationDate(), lastCursor.getNotificationId(), CATCH_UP_BATCH_SIZE);
+                    ArrayList<String> pushedNotifications = new ArrayList<>(notifications.size());
+                    for (NovaNotification notification : notifications) {
+                        NotificationsCursor cursor = new NotificationsCursor(notification);
+                        emitter.send(SseEmitter.event()
+                                .id(cursor.toString())
+                                .name(NOTIFICATION_EVENT)
+                                .data(notification, MediaType.APPLICATION_JSON));
+                        lastCursor = cursor;
+                        if(!notification.isSent())
+                            pushedNotifications.add(notification.getId());
+                    }
+                    if(!pushedNotifications.isEmpty())
+                        notificationsRepository.setNotificationsAsSent(pushedNotifications);
+                } while (notifications.size() == CATCH_UP_BATCH_SIZE);
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this);
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        }
+
+        /**
+         * Method to send the heartbeat on the connection <br>
+         * No-any params required
+         */
+        private synchronized void sendHeartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this);
+            }
+        }
+
+    }
+
+}
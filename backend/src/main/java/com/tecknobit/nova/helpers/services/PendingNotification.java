@@ -0,0 +1,220 @@
+package com.tecknobit.nova.helpers.services;
+
+import com.tecknobit.equinox.environment.records.EquinoxItem;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static com.tecknobit.novacore.records.project.Project.LOGO_URL_KEY;
+import static com.tecknobit.novacore.records.release.Release.*;
+
+/**
+ * The {@code PendingNotification} class is useful to represent a fan-out of notifications enqueued and not dispatched
+ * yet to the members of a project. The fan-out is persisted in the same transaction of the change which generated it,
+ * so it survives the crashes of the server until is dispatched by the {@link NotificationsDispatcher}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see EquinoxItem
+ */
+@Entity
+@Table(name = PendingNotification.PENDING_NOTIFICATIONS_KEY)
+public class PendingNotification extends EquinoxItem {
+
+    /**
+     * {@code PENDING_NOTIFICATIONS_KEY} the key for the <b>"pending_notifications"</b> field
+     */
+    public static final String PENDING_NOTIFICATIONS_KEY = "pending_notifications";
+
+    /**
+     * {@code RECIPIENTS_KEY} the key for the <b>"recipients"</b> field
+     */
+    public static final String RECIPIENTS_KEY = "recipients";
+
+    /**
+     * {@code ENQUEUE_DATE_KEY} the key for the <b>"enqueue_date"</b> field
+     */
+    public static final String ENQUEUE_DATE_KEY = "enqueue_date";
+
+    /**
+     * {@code RECIPIENTS_SEPARATOR} the separator between the identifiers of the recipients
+     */
+    private static final String RECIPIENTS_SEPARATOR = ",";
+
+    /**
+     * {@code projectLogo} the logo url of the related project
+     */
+    @Column(
+            name = LOGO_URL_KEY,
+            columnDefinition = "TEXT"
+    )
+    private final String projectLogo;
+
+    /**
+     * {@code releaseId} the identifier of the related release, if any
+     */
+    @Column(
+            name = RELEASE_IDENTIFIER_KEY,
+            columnDefinition = "VARCHAR(32) DEFAULT NULL"
+    )
+    private final String releaseId;
+
+    /**
+     * {@code releaseVersion} the version of the related release, if any
+     */
+    @Column(
+            name = RELEASE_VERSION_KEY,
+            columnDefinition = "VARCHAR(15) DEFAULT NULL"
+    )
+    private final String releaseVersion;
+
+    /**
+     * {@code releaseStatus} the status of the related release, if any
+     */
+    @Column(
+            name = RELEASE_STATUS_KEY,
+            columnDefinition = "VARCHAR(10) DEFAULT NULL"
+    )
+    private final String releaseStatus;
+
+    /**
+     * {@code recipients} the identifiers of the users to notify separated by {@link #RECIPIENTS_SEPARATOR}
+     */
+    @Column(
+            name = RECIPIENTS_KEY,
+            columnDefinition = "TEXT"
+    )
+    private final String recipients;
+
+    /**
+     * {@code enqueueDate} the date when the fan-out has been enqueued
+     */
+    @Column(name = ENQUEUE_DATE_KEY)
+    private final long enqueueDate;
+
+    /**
+     * Constructor to init the {@link PendingNotification} class <br>
+     *
+     * No-any params required
+     *
+     * @apiNote empty constructor required
+     */
+    public PendingNotification() {
+        this(null, null, null, null, null, (String) null, -1);
+    }
+
+    /**
+     * Constructor to init the {@link PendingNotification} class
+     *
+     * @param id: the identifier of the fan-out
+     * @param projectLogo: the logo url of the related project
+     * @param releaseId: the identifier of the related release, if any
+     * @param releaseVersion: the version of the related release, if any
+     * @param releaseStatus: the status of the related release, if any
+     * @param recipients: the identifiers of the users to notify
+     * @param enqueueDate: the date when the fan-out has been enqueued
+     */
+    public PendingNotification(String id, String projectLogo, String releaseId, String releaseVersion,
+                               String releaseStatus, Collection<String> recipients, long enqueueDate) {
+        this(id, projectLogo, releaseId, releaseVersion, releaseStatus, String.join(RECIPIENTS_SEPARATOR, recipients),
+                enqueueDate);
+    }
+
+    /**
+     * Constructor to init the {@link PendingNotification} class
+     *
+     * @param id: the identifier of the fan-out
+     * @param projectLogo: the logo url of the related project
+     * @param releaseId: the identifier of the related release, if any
+     * @param releaseVersion: the version of the related release, if any
+     * @param releaseStatus: the status of the related release, if any
+     * @param recipients: the identifiers of the users to notify separated by {@link #RECIPIENTS_SEPARATOR}
+     * @param enqueueDate: the date when the fan-out has been enqueued
+     */
+    public PendingNotification(String id, String projectLogo, String releaseId, String releaseVersion,
+                               String releaseStatus, String recipients, long enqueueDate) {
+        super(id);
+        this.projectLogo = projectLogo;
+        this.releaseId = releaseId;
+        this.releaseVersion = releaseVersion;
+        this.releaseStatus = releaseStatus;
+        this.recipients = recipients;
+        this.enqueueDate = enqueueDate;
+    }
+
+    /**
+     * Method to get {@link #projectLogo} instance <br>
+     * No-any params required
+     *
+     * @return {@link #projectLogo} instance as {@link String}
+     */
+    public String getProjectLogo() {
+        return projectLogo;
+    }
+
+    /**
+     * Method to get {@link #releaseId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #releaseId} instance as {@link String}
+     */
+    public String getReleaseId() {
+        return releaseId;
+    }
+
+    /**
+     * Method to get {@link #releaseVersion} instance <br>
+     * No-any params required
+     *
+     * @return {@link #releaseVersion} instance as {@link String}
+     */
+    public String getReleaseVersion() {
+        return releaseVersion;
+    }
+
+    /**
+     * Method to get {@link #releaseStatus} instance <br>
+     * No-any params required
+     *
+     * @return {@link #releaseStatus} instance as {@link String}
+     */
+    public String getReleaseStatus() {
+        return releaseStatus;
+    }
+
+    /**
+     * Method to get {@link #recipients} instance <br>
+     * No-any params required
+     *
+     * @return {@link #recipients} instance as {@link String}
+     */
+    public String getRecipients() {
+        return recipients;
+    }
+
+    /**
+     * Method to get the identifiers of the users to notify <br>
+     * No-any params required
+     *
+     * @return the identifiers of the users as {@link List} of {@link String}
+     */
+    public List<String> getRecipientsIds() {
+        if(recipients == null || recipients.isEmpty())
+            return List.of();
+        return Arrays.asList(recipients.split(RECIPIENTS_SEPARATOR));
+    }
+
+    /**
+     * Method to get {@link #enqueueDate} instance <br>
+     * No-any params required
+     *
+     * @return {@link #enqueueDate} instance as long
+     */
+    public long getEnqueueDate() {
+        return enqueueDate;
+    }
+
+}
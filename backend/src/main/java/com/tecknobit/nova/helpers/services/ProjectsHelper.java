@@ -2,10 +2,12 @@ package com.tecknobit.nova.helpers.services;
 
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.nova.controllers.projectmanagers.ProjectsController;
+import com.tecknobit.nova.helpers.resources.LogoThumbnailer;
 import com.tecknobit.nova.helpers.resources.NovaResourcesManager;
+import com.tecknobit.nova.helpers.resources.StorageCollector;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
 import com.tecknobit.nova.helpers.services.repositories.projectsutils.JoiningQRCodeRepository;
 import com.tecknobit.nova.helpers.services.repositories.projectsutils.ProjectsRepository;
-import com.tecknobit.nova.helpers.services.repositories.releaseutils.NotificationsRepository;
 import com.tecknobit.novacore.records.NovaUser;
 import com.tecknobit.novacore.records.project.JoiningQRCode;
 import com.tecknobit.novacore.records.project.Project;
@@ -87,10 +89,39 @@ public class ProjectsHelper extends EquinoxItemsHelper<Project> implements NovaR
     private ReleasesHelper releasesHelper;
 
     /**
-     * {@code notificationsRepository} instance useful to manage the notifications
+     * {@code notificationsDispatcher} the dispatcher of the notifications to the members of the projects
      */
     @Autowired
-    private NotificationsRepository notificationsRepository;
+    private NotificationsDispatcher notificationsDispatcher;
+
+    /**
+     * {@code storageCollector} the collector of the resources not referenced anymore
+     */
+    @Autowired
+    private StorageCollector storageCollector;
+
+    /**
+     * {@code logoThumbnailer} the creator of the thumbnails of the logos
+     */
+    @Autowired
+    private LogoThumbnailer logoThumbnailer;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    @Autowired
+    private BlobStorage blobStorage;
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
 
     /**
      * Method to get the project of a {@link NovaUser}
@@ -132,10 +163,14 @@ public class ProjectsHelper extends EquinoxItemsHelper<Project> implements NovaR
                 query.setParameter(index++, member);
             }
         });
-        saveResource(logo, logoUrl);
+        storeResource(logo, logoUrl);
+        String logoThumbnailUrl = logoUrl;
+        if(logoThumbnailer.createThumbnails(logoUrl))
+            logoThumbnailUrl = getLogoThumbnailUrl(logoUrl, LARGE_LOGO_SIZE);
         return new JSONObject()
                 .put(NAME_KEY, name)
                 .put(LOGO_URL_KEY, logoUrl)
+                .put(LOGO_THUMBNAIL_URL_KEY, logoThumbnailUrl)
                 .put(IDENTIFIER_KEY, projectId)
                 .put(AUTHOR_KEY, authorId);
     }
@@ -150,6 +185,7 @@ public class ProjectsHelper extends EquinoxItemsHelper<Project> implements NovaR
      */
     public void editProject(String name, MultipartFile logo, List<String> members, Project project) throws IOException {
         String projectId = project.getId();
+        String previousLogoUrl = project.getLogoUrl();
         boolean logoEdited = logo != null && !logo.isEmpty();
         String logoUrl = null;
         if(logoEdited) {
@@ -167,8 +203,9 @@ public class ProjectsHelper extends EquinoxItemsHelper<Project> implements NovaR
         }
         manageProjectMembers(project, members);
         if(logoEdited) {
-            deleteLogoResource(projectId);
-            saveResource(logo, logoUrl);
+            storageCollector.buryResources(getLogoResources(previousLogoUrl));
+            storeResource(logo, logoUrl);
+            logoThumbnailer.createThumbnails(logoUrl);
         }
     }
 
@@ -318,20 +355,9 @@ public class ProjectsHelper extends EquinoxItemsHelper<Project> implements NovaR
             releasesHelper.deleteRelease(null, null, release);
         projectsRepository.removeAllMembers(projectId);
         projectsRepository.removeAllTesters(projectId);
-        List<NovaUser> members = project.getProjectMembers();
-        members.add(project.getAuthor());
-        for(NovaUser member : members) {
-            String memberId = member.getId();
-            if(!memberId.equals(authorId)) {
-                notificationsRepository.insertProjectDeletedNotification(
-                        generateIdentifier(),
-                        project.getLogoUrl(),
-                        memberId
-                );
-            }
-        }
+        notificationsDispatcher.notifyProjectDeleted(authorId, project);
         projectsRepository.deleteProject(projectId);
-        deleteLogoResource(projectId);
+        storageCollector.buryResources(getLogoResources(project.getLogoUrl()));
     }
 
     /**
@@ -1,13 +1,20 @@
 package com.tecknobit.nova.helpers.services;
 
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.nova.helpers.ReportFragmentsCache;
+import com.tecknobit.nova.helpers.ReportsIndex;
+import com.tecknobit.nova.helpers.ReportsPregenerator;
+import com.tecknobit.nova.helpers.resources.AssetUploadSessions;
+import com.tecknobit.nova.helpers.resources.AssetUploadSessions.UploadSession;
 import com.tecknobit.nova.helpers.resources.NovaResourcesManager;
+import com.tecknobit.nova.helpers.resources.StorageCollector;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.services.repositories.projectsutils.ProjectsRepository;
 import com.tecknobit.nova.helpers.services.repositories.releaseutils.NotificationsRepository;
 import com.tecknobit.nova.helpers.services.repositories.releaseutils.ReleaseEventsRepository;
 import com.tecknobit.nova.helpers.services.repositories.releaseutils.ReleaseTagRepository;
 import com.tecknobit.nova.helpers.services.repositories.releaseutils.ReleasesRepository;
 import com.tecknobit.novacore.records.NovaNotification;
-import com.tecknobit.novacore.records.NovaUser;
 import com.tecknobit.novacore.records.project.Project;
 import com.tecknobit.novacore.records.release.Release;
 import com.tecknobit.novacore.records.release.Release.ReleaseStatus;
@@ -16,17 +23,41 @@ import com.tecknobit.novacore.records.release.events.RejectedReleaseEvent;
 import com.tecknobit.novacore.records.release.events.RejectedTag;
 import com.tecknobit.novacore.records.release.events.ReleaseEvent;
 import com.tecknobit.novacore.records.release.events.ReleaseEvent.ReleaseTag;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import org.apache.tomcat.util.http.fileupload.FileItemIterator;
+import org.apache.tomcat.util.http.fileupload.FileItemStream;
+import org.apache.tomcat.util.http.fileupload.FileUploadException;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletFileUpload;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletRequestContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.*;
 
 import static com.tecknobit.equinox.environment.controllers.EquinoxController.generateIdentifier;
-import static com.tecknobit.nova.helpers.ReportsProvider.VERSION_REGEX;
 import static com.tecknobit.novacore.records.release.Release.ReleaseStatus.*;
+import static com.tecknobit.equinox.environment.records.EquinoxItem.IDENTIFIER_KEY;
+import static com.tecknobit.equinox.environment.records.EquinoxUser.NAME_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.ASSET_UPLOADING_EVENT_IDENTIFIER_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.*;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.COMMENT_KEY;
 
 /**
  * The {@code ReleasesHelper} class is useful to manage all the release database operations
@@ -37,6 +68,43 @@ import static com.tecknobit.novacore.records.release.Release.ReleaseStatus.*;
 @Service
 public class ReleasesHelper implements NovaResourcesManager {
 
+    /**
+     * {@code INSERT_ASSETS_QUERY} the query used to insert the assets uploaded with an {@link AssetUploadingEvent}
+     */
+    private static final String INSERT_ASSETS_QUERY =
+            "INSERT INTO " + ASSETS_UPLOADED_KEY +
+                    "(" +
+                    IDENTIFIER_KEY + "," +
+                    ASSET_URL_KEY + "," +
+                    ASSET_UPLOADING_EVENT_IDENTIFIER_KEY + "," +
+                    NAME_KEY + "," +
+                    ASSET_SIZE_KEY + "," +
+                    ASSET_CHECKSUM_KEY + "," +
+                    ASSET_CONTENT_TYPE_KEY +
+                    ")" +
+                    " VALUES ";
+
+    /**
+     * {@code ASSET_VALUES_SLICE} query part to insert a new asset uploaded
+     */
+    private static final String ASSET_VALUES_SLICE = "(?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * {@code ASSETS_STORING_THREADS} the max number of the assets stored at the same time
+     */
+    private static final int ASSETS_STORING_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * {@code assetsStoringPool} the bounded pool where the assets are written on the disk
+     */
+    private final ExecutorService assetsStoringPool = Executors.newFixedThreadPool(ASSETS_STORING_THREADS,
+            runnable -> {
+                Thread thread = new Thread(runnable, "nova-assets-storing");
+                thread.setDaemon(true);
+                return thread;
+            }
+    );
+
     /**
      * {@code releasesRepository} instance for the releases repository
      */
@@ -49,6 +117,12 @@ public class ReleasesHelper implements NovaResourcesManager {
     @Autowired
     private ReleaseEventsRepository releaseEventsRepository;
 
+    /**
+     * {@code projectsRepository} instance for the projects repository
+     */
+    @Autowired
+    private ProjectsRepository projectsRepository;
+
     /**
      * {@code releaseTagRepository} instance for the tags of releases repository
      */
@@ -61,6 +135,83 @@ public class ReleasesHelper implements NovaResourcesManager {
     @Autowired
     private NotificationsRepository notificationsRepository;
 
+    /**
+     * {@code notificationsDispatcher} the dispatcher of the notifications to the members of the projects
+     */
+    @Autowired
+    private NotificationsDispatcher notificationsDispatcher;
+
+    /**
+     * {@code reportsIndex} the index of the reports already rendered
+     */
+    @Autowired
+    private ReportsIndex reportsIndex;
+
+    /**
+     * {@code fragmentsCache} the cache of the html fragments rendered for the events of the releases
+     */
+    @Autowired
+    private ReportFragmentsCache fragmentsCache;
+
+    /**
+     * {@code reportsPregenerator} the service used to render the reports as soon as the status of the releases changes
+     */
+    @Autowired
+    private ReportsPregenerator reportsPregenerator;
+
+    /**
+     * {@code uploadSessions} the manager of the resumable upload sessions of the assets
+     */
+    @Autowired
+    private AssetUploadSessions uploadSessions;
+
+    /**
+     * {@code storageCollector} the collector of the resources not referenced anymore
+     */
+    @Autowired
+    private StorageCollector storageCollector;
+
+    /**
+     * {@code blobStorage} the storage where the resources are stored
+     */
+    @Autowired
+    private BlobStorage blobStorage;
+
+    /**
+     * {@code batchInsertsHelper} helper to insert the assets uploaded with a single query
+     */
+    @Autowired
+    private BatchInsertsHelper batchInsertsHelper;
+
+    /**
+     * {@code maxUploadSize} the max size of the requests which upload the assets
+     */
+    @Value("${spring.servlet.multipart.max-request-size}")
+    private DataSize maxUploadSize;
+
+    /**
+     * {@code projectQuota} the max size which the assets of each project can occupy, zero if unlimited
+     */
+    @Value("${nova.storage.project-quota:0B}")
+    private DataSize projectQuota;
+
+    /**
+     * {@code transactionTemplate} the template used to attach the assets stored in a single transaction
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Method to get the storage where the resources are stored <br>
+     * No-any params required
+     *
+     * @return the storage of the resources as {@link BlobStorage}
+     */
+    @Override
+    public BlobStorage getBlobStorage() {
+        return blobStorage;
+    }
+
     /**
      * Method to add a new release
      *
@@ -70,6 +221,7 @@ public class ReleasesHelper implements NovaResourcesManager {
      * @param releaseVersion: the version of the release
      * @param releaseNotesContent: the notes attached to the release
      */
+    @Transactional
     public void addRelease(String requesterUser, Project project, String releaseId, String releaseVersion,
                            String releaseNotesContent) {
         releasesRepository.addRelease(
@@ -79,21 +231,7 @@ public class ReleasesHelper implements NovaResourcesManager {
                 project.getId(),
                 releaseNotesContent
         );
-        List<NovaUser> members = project.getProjectMembers();
-        members.add(project.getAuthor());
-        for(NovaUser member : members) {
-            String memberId = member.getId();
-            if(!memberId.equals(requesterUser)) {
-                notificationsRepository.insertNotification(
-                        generateIdentifier(),
-                        project.getLogoUrl(),
-                        releaseId,
-                        releaseVersion,
-                        ReleaseStatus.New.name(),
-                        memberId
-                );
-            }
-        }
+        notificationsDispatcher.notifyReleaseStatus(requesterUser, project, releaseId, releaseVersion, New);
     }
 
     /**
@@ -150,38 +288,275 @@ public class ReleasesHelper implements NovaResourcesManager {
      * @return whether the upload has been successful
      *
      * @apiNote will be created the related {@link NovaNotification} for each member, not the author of the request,
-     * of the project
+     * of the project. The assets are written concurrently on the {@link #assetsStoringPool}
      */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public boolean uploadAssets(String requesterUser, Project project, String releaseId, MultipartFile[] assets,
                                 String comment) throws IOException {
-        String eventId = generateIdentifier();
-        if(comment.isEmpty())
-            comment = null;
-        releaseEventsRepository.insertAssetUploading(
-                eventId,
-                System.currentTimeMillis(),
-                releaseId,
-                Verifying.name(),
-                comment
-        );
+        long assetsSize = 0;
         for (MultipartFile asset : assets) {
-            if(!asset.isEmpty()) {
-                String assetId = generateIdentifier();
-                String assetPath = createAssetResource(asset, assetId);
-                releaseEventsRepository.insertAsset(
-                        assetId,
-                        assetPath,
-                        eventId,
-                        asset.getOriginalFilename()
-                );
-                saveResource(asset, assetPath);
-            } else
+            if(asset.isEmpty())
                 return false;
+            assetsSize += asset.getSize();
+        }
+        if(exceedsStorageQuota(project, assetsSize))
+            throw new StorageQuotaExceededException();
+        ArrayList<Callable<UploadedAsset>> storingTasks = new ArrayList<>();
+        for (MultipartFile asset : assets) {
+            storingTasks.add(() -> new UploadedAsset(generateIdentifier(), asset.getOriginalFilename(),
+                    storeAsset(asset)));
+        }
+        attachAssets(requesterUser, project, releaseId, storeAssets(storingTasks), comment);
+        return true;
+    }
+
+    /**
+     * Method to upload a new assets on a release parsing the multipart body of the request incrementally, so each
+     * asset is streamed directly in its final location without being spooled in a temporary location before
+     *
+     * @param requesterUser: the user who made the request to uploads the assets
+     * @param project: the project where the release is attached
+     * @param releaseId: the release identifier
+     * @param request: the multipart request which contains the assets and the comment for the uploaded assets
+     *
+     * @return whether the upload has been successful
+     *
+     * @apiNote will be created the related {@link NovaNotification} for each member, not the author of the request,
+     * of the project. The body is parsed with the streaming multipart parser of the servlet container, so no other
+     * dependency is required
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public boolean uploadAssets(String requesterUser, Project project, String releaseId,
+                                HttpServletRequest request) throws IOException {
+        ServletFileUpload upload = new ServletFileUpload();
+        upload.setSizeMax(maxUploadSize.toBytes());
+        ArrayList<UploadedAsset> uploadedAssets = new ArrayList<>();
+        String comment = "";
+        try {
+            FileItemIterator items = upload.getItemIterator(new ServletRequestContext(request));
+            while (items.hasNext()) {
+                FileItemStream item = items.next();
+                String fieldName = item.getFieldName();
+                try (InputStream content = item.openStream()) {
+                    if(item.isFormField()) {
+                        if(COMMENT_KEY.equals(fieldName))
+                            comment = new String(content.readAllBytes(), StandardCharsets.UTF_8);
+                    } else if(ASSETS_UPLOADED_KEY.equals(fieldName)) {
+                        uploadedAssets.add(new UploadedAsset(generateIdentifier(), item.getName(),
+                                storeAsset(content, item.getContentType())));
+                    }
+                }
+            }
+        } catch (FileUploadException e) {
+            discardAssets(uploadedAssets);
+            throw new IOException(e);
+        } catch (IOException e) {
+            discardAssets(uploadedAssets);
+            throw e;
+        }
+        boolean validAssets = !uploadedAssets.isEmpty();
+        for (UploadedAsset uploadedAsset : uploadedAssets)
+            if(uploadedAsset.details().size() == 0)
+                validAssets = false;
+        if(!validAssets) {
+            discardAssets(uploadedAssets);
+            return false;
         }
-        setVerifyingStatus(requesterUser, project, releaseId);
+        attachAssets(requesterUser, project, releaseId, uploadedAssets, comment);
         return true;
     }
 
+    /**
+     * Method to upload a new assets on a release completing the resumable upload sessions where their content has
+     * been received
+     *
+     * @param requesterUser: the user who made the request to uploads the assets
+     * @param project: the project where the release is attached
+     * @param releaseId: the release identifier
+     * @param sessions: the completed sessions of the assets to upload
+     * @param comment: the comment for the uploaded assets
+     *
+     * @apiNote will be created the related {@link NovaNotification} for each member, not the author of the request,
+     * of the project. The sessions are completed concurrently on the {@link #assetsStoringPool} and are removed only
+     * after the assets have been committed, so if the upload fails they can be finalized again
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void uploadAssets(String requesterUser, Project project, String releaseId, List<UploadSession> sessions,
+                             String comment) throws IOException {
+        long assetsSize = 0;
+        for (UploadSession session : sessions)
+            assetsSize += session.getSize();
+        if(exceedsStorageQuota(project, assetsSize))
+            throw new StorageQuotaExceededException();
+        ArrayList<Callable<UploadedAsset>> storingTasks = new ArrayList<>();
+        for (UploadSession session : sessions) {
+            storingTasks.add(() -> new UploadedAsset(generateIdentifier(), session.getName(),
+                    uploadSessions.completeSession(session)));
+        }
+        attachAssets(requesterUser, project, releaseId, storeAssets(storingTasks), comment);
+        for (UploadSession session : sessions)
+            uploadSessions.removeSession(session);
+    }
+
+    /**
+     * Method to store the assets concurrently on the {@link #assetsStoringPool} waiting until all of them have been
+     * written
+     *
+     * @param storingTasks: the tasks which store each asset
+     *
+     * @return the assets stored as {@link List} of {@link UploadedAsset}
+     *
+     * @throws IOException when an error occurred storing an asset, in this case all the assets already stored are
+     * discarded
+     */
+    private List<UploadedAsset> storeAssets(List<Callable<UploadedAsset>> storingTasks) throws IOException {
+        ArrayList<Future<UploadedAsset>> storingAssets = new ArrayList<>();
+        for (Callable<UploadedAsset> storingTask : storingTasks)
+            storingAssets.add(assetsStoringPool.submit(storingTask));
+        ArrayList<UploadedAsset> uploadedAssets = new ArrayList<>();
+        IOException storingError = null;
+        for (Future<UploadedAsset> storingAsset : storingAssets) {
+            try {
+                uploadedAssets.add(storingAsset.get());
+            } catch (ExecutionException e) {
+                if(storingError == null) {
+                    if(e.getCause() instanceof IOException ioException)
+                        storingError = ioException;
+                    else
+                        storingError = new IOException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<UploadedAsset> pendingAsset : storingAssets)
+                    pendingAsset.cancel(true);
+                storingError = new InterruptedIOException();
+                break;
+            }
+        }
+        if(storingError != null) {
+            discardAssets(uploadedAssets);
+            throw storingError;
+        }
+        return uploadedAssets;
+    }
+
+    /**
+     * Method to attach the assets already stored to a release creating the related {@link AssetUploadingEvent}, the
+     * event and all its assets are committed in a single transaction
+     *
+     * @param requesterUser: the user who made the request to uploads the assets
+     * @param project: the project where the release is attached
+     * @param releaseId: the release identifier
+     * @param uploadedAssets: the assets stored to attach
+     * @param comment: the comment for the uploaded assets
+     *
+     * @throws StorageQuotaExceededException when the assets exceed the storage quota of the project, in this case the
+     * assets stored are discarded
+     * @throws IOException when a stored content has been collected before the assets referenced it, in this case the
+     * assets stored are discarded
+     * @apiNote the stored contents are checked only after the rows of the assets have been inserted, so from that
+     * moment the {@link StorageCollector}, which checks the references of a content locking them, cannot delete them
+     */
+    private void attachAssets(String requesterUser, Project project, String releaseId,
+                              List<UploadedAsset> uploadedAssets, String comment) throws IOException {
+        String eventId = generateIdentifier();
+        String eventComment = comment == null || comment.isEmpty() ? null : comment;
+        long assetsSize = 0;
+        for (UploadedAsset uploadedAsset : uploadedAssets)
+            assetsSize += uploadedAsset.details().size();
+        long uploadedBytes = assetsSize;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if(projectsRepository.increaseStorageUsage(project.getId(), uploadedBytes,
+                        projectQuota.toBytes()) == 0) {
+                    throw new StorageQuotaExceededException();
+                }
+                releasesRepository.increaseStorageUsage(releaseId, uploadedBytes);
+                releaseEventsRepository.insertAssetUploading(
+                        eventId,
+                        System.currentTimeMillis(),
+                        releaseId,
+                        Verifying.name(),
+                        eventComment
+                );
+                batchInsertsHelper.executeInsertBatch(INSERT_ASSETS_QUERY, ASSET_VALUES_SLICE, uploadedAssets,
+                        query -> {
+                            int index = 1;
+                            for (UploadedAsset uploadedAsset : uploadedAssets) {
+                                StoredAsset storedAsset = uploadedAsset.details();
+                                query.setParameter(index++, uploadedAsset.id());
+                                query.setParameter(index++, storedAsset.path());
+                                query.setParameter(index++, eventId);
+                                query.setParameter(index++, uploadedAsset.name());
+                                query.setParameter(index++, storedAsset.size());
+                                query.setParameter(index++, storedAsset.checksum());
+                                query.setParameter(index++, storedAsset.contentType());
+                            }
+                        });
+                checkStoredAssets(uploadedAssets);
+                setVerifyingStatus(requesterUser, project, releaseId);
+            });
+        } catch (UncheckedIOException e) {
+            discardAssets(uploadedAssets);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            discardAssets(uploadedAssets);
+            throw e;
+        }
+    }
+
+    /**
+     * Method to check that the stored contents of the assets still exist, a content already stored could have been
+     * shared with assets deleted in the meantime and then collected
+     *
+     * @param uploadedAssets: the assets to check
+     *
+     * @throws UncheckedIOException when a stored content does not exist anymore or cannot be checked
+     */
+    private void checkStoredAssets(List<UploadedAsset> uploadedAssets) {
+        HashSet<String> assetPaths = new HashSet<>();
+        for (UploadedAsset uploadedAsset : uploadedAssets)
+            assetPaths.add(uploadedAsset.details().path());
+        try {
+            for (String assetPath : assetPaths)
+                if(blobStorage.stat(assetPath) == null)
+                    throw new NoSuchFileException(assetPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Method to check whether uploading new assets on a project would exceed its storage quota, this check is
+     * useful to reject the uploads before their content is received
+     *
+     * @param project: the project where the assets have to be uploaded
+     * @param assetsSize: the size in bytes of the assets to upload
+     *
+     * @return whether the storage quota would be exceeded as boolean
+     *
+     * @apiNote the quota is enforced also when the assets are attached, so the concurrent uploads cannot exceed it
+     */
+    public boolean exceedsStorageQuota(Project project, long assetsSize) {
+        long quota = projectQuota.toBytes();
+        return quota > 0 && project.getStorageUsage() + assetsSize > quota;
+    }
+
+    /**
+     * Method to discard the files of the assets stored when their upload failed
+     *
+     * @param uploadedAssets: the assets to discard
+     *
+     * @apiNote the files of the assets are shared by content, so are buried and then deleted by the
+     * {@link StorageCollector} only when not referenced by any other asset
+     */
+    private void discardAssets(List<UploadedAsset> uploadedAssets) {
+        HashSet<String> assetPaths = new HashSet<>();
+        for (UploadedAsset uploadedAsset : uploadedAssets)
+            assetPaths.add(uploadedAsset.details().path());
+        storageCollector.buryResources(assetPaths);
+    }
+
     /**
      * Method to approve a release assets
      *
@@ -193,6 +568,7 @@ public class ReleasesHelper implements NovaResourcesManager {
      * @apiNote will be created the related {@link NovaNotification} for each member, not the author of the request,
      * of the project
      */
+    @Transactional
     public void approveAssets(String requesterUser, Project project, String releaseId, String eventId) {
         setApprovedStatus(requesterUser, project, releaseId);
         releasesRepository.approveAsset(releaseId, System.currentTimeMillis());
@@ -212,6 +588,7 @@ public class ReleasesHelper implements NovaResourcesManager {
      * @apiNote will be created the related {@link NovaNotification} for each member, not the author of the request,
      * of the project
      */
+    @Transactional
     public void rejectAsset(String requesterUser, Project project, String releaseId, String eventId, String reasons,
                             ArrayList<ReleaseTag> tags) {
         setRejectedStatus(requesterUser, project, releaseId);
@@ -294,6 +671,7 @@ public class ReleasesHelper implements NovaResourcesManager {
      * of the project
      */
     @Wrapper
+    @Transactional
     public void setAlphaStatus(String requesterUser, Project project, String releaseId) {
         setReleaseStatus(requesterUser, project, releaseId, Alpha);
     }
@@ -309,6 +687,7 @@ public class ReleasesHelper implements NovaResourcesManager {
      * of the project
      */
     @Wrapper
+    @Transactional
     public void setBetaStatus(String requesterUser, Project project, String releaseId) {
         setReleaseStatus(requesterUser, project, releaseId, Beta);
     }
@@ -324,6 +703,7 @@ public class ReleasesHelper implements NovaResourcesManager {
      * of the project
      */
     @Wrapper
+    @Transactional
     public void setLatestStatus(String requesterUser, Project project, String projectId, String releaseId) {
         releasesRepository.setAsFinished(projectId);
         setReleaseStatus(requesterUser, project, releaseId, Latest);
@@ -336,6 +716,8 @@ public class ReleasesHelper implements NovaResourcesManager {
      * @param project: the project where the release is attached
      * @param releaseId: the identifier of the release
      * @param status: the status to set
+     *
+     * @apiNote the report of the release is pregenerated only after the new status has been committed
      */
     private void setReleaseStatus(String requesterUser, Project project, String releaseId, ReleaseStatus status) {
         releasesRepository.updateReleaseStatus(releaseId, status.name());
@@ -348,21 +730,17 @@ public class ReleasesHelper implements NovaResourcesManager {
                     status.name()
             );
         }
-        List<NovaUser> members = project.getProjectMembers();
-        members.add(project.getAuthor());
-        for(NovaUser member : members) {
-            String memberId = member.getId();
-            if(!memberId.equals(requesterUser)) {
-                notificationsRepository.insertNotification(
-                        generateIdentifier(),
-                        project.getLogoUrl(),
-                        releaseId,
-                        release.getReleaseVersion(),
-                        status.name(),
-                        memberId
-                );
-            }
-        }
+        notificationsDispatcher.notifyReleaseStatus(requesterUser, project, releaseId, release.getReleaseVersion(),
+                status);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reportsPregenerator.scheduleReport(releaseId);
+                }
+            });
+        } else
+            reportsPregenerator.scheduleReport(releaseId);
     }
 
     /**
@@ -372,36 +750,69 @@ public class ReleasesHelper implements NovaResourcesManager {
      * @param project: the project where the release is attached
      * @param release: the release to delete
      */
+    @Transactional
     public void deleteRelease(String requesterUser, Project project, Release release) {
         String releaseId = release.getId();
+        HashSet<String> resourcePaths = new HashSet<>();
         for (ReleaseEvent event : release.getReleaseEvents()) {
             String eventId = event.getId();
             if(event instanceof AssetUploadingEvent) {
                 for (AssetUploadingEvent.AssetUploaded asset : ((AssetUploadingEvent) event).getAssetsUploaded())
-                    deleteAssetResource(asset.getId());
+                    resourcePaths.add(asset.getUrl());
                 releaseEventsRepository.deleteAssetUploadingReleaseEvent(eventId);
             } else if(event instanceof RejectedReleaseEvent)
                 releaseEventsRepository.deleteRejectedReleaseEvent(eventId);
             else
                 releaseEventsRepository.deleteReleaseEvent(eventId);
         }
-        deleteReportResource(release.getReleaseVersion().replaceFirst(VERSION_REGEX, ""));
+        resourcePaths.addAll(reportsIndex.removeReport(releaseId));
+        fragmentsCache.evictFragments(release);
         releasesRepository.deleteRelease(releaseId);
-        if(project != null) {
-            List<NovaUser> members = project.getProjectMembers();
-            members.add(project.getAuthor());
-            for (NovaUser member : project.getProjectMembers()) {
-                String memberId = member.getId();
-                if(!memberId.equals(requesterUser)) {
-                    notificationsRepository.insertReleaseDeletedNotification(
-                            generateIdentifier(),
-                            project.getLogoUrl(),
-                            release.getReleaseVersion(),
-                            memberId
-                    );
-                }
-            }
+        if(release.getStorageUsage() > 0)
+            projectsRepository.decreaseStorageUsage(release.getProject().getId(), release.getStorageUsage());
+        storageCollector.buryResources(resourcePaths);
+        if(project != null)
+            notificationsDispatcher.notifyReleaseDeleted(requesterUser, project, release.getReleaseVersion());
+    }
+
+    /**
+     * Method to stop the {@link #assetsStoringPool} when the service is destroyed <br>
+     * No-any params required
+     */
+    @PreDestroy
+    public void shutdown() {
+        assetsStoringPool.shutdown();
+    }
+
+    /**
+     * The {@code UploadedAsset} record is useful to represent an asset stored and not attached to its release yet
+     *
+     * @param id: the identifier of the asset
+     * @param name: the name of the asset
+     * @param details: the details of the asset stored
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private record UploadedAsset(String id, String name, StoredAsset details) {
+    }
+
+    /**
+     * The {@code StorageQuotaExceededException} class is useful to signal that the assets uploaded exceed the storage
+     * quota of their project
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @see RuntimeException
+     */
+    public static class StorageQuotaExceededException extends RuntimeException {
+
+        /**
+         * Constructor to init the {@link StorageQuotaExceededException} class <br>
+         * No-any params required
+         */
+        public StorageQuotaExceededException() {
+            super("The storage quota of the project has been exceeded");
         }
+
     }
 
 }
@@ -0,0 +1,63 @@
+package com.tecknobit.nova.helpers.services.repositories;
+
+import com.tecknobit.nova.helpers.resources.StorageTombstone;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.tecknobit.equinox.environment.records.EquinoxItem.IDENTIFIER_KEY;
+import static com.tecknobit.nova.helpers.resources.StorageTombstone.BURIAL_DATE_KEY;
+import static com.tecknobit.nova.helpers.resources.StorageTombstone.STORAGE_TOMBSTONES_KEY;
+
+/**
+ * The {@code StorageTombstonesRepository} interface is useful to manage the queries for the tombstones of the
+ * resources to delete
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see JpaRepository
+ * @see StorageTombstone
+ */
+@Service
+@Repository
+public interface StorageTombstonesRepository extends JpaRepository<StorageTombstone, String> {
+
+    /**
+     * Method to execute the query to select the oldest tombstones buried before a date
+     *
+     * @param burialDate: the date before that the tombstones have to be buried
+     * @param limit: the max number of the tombstones to select
+     *
+     * @return the tombstones list as {@link List} of {@link StorageTombstone}
+     */
+    @Query(
+            value = "SELECT * FROM " + STORAGE_TOMBSTONES_KEY + " WHERE " + BURIAL_DATE_KEY + "<:" + BURIAL_DATE_KEY
+                    + " ORDER BY " + BURIAL_DATE_KEY + " LIMIT :limit",
+            nativeQuery = true
+    )
+    List<StorageTombstone> getOldestTombstones(
+            @Param(BURIAL_DATE_KEY) long burialDate,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Method to execute the query to delete the tombstones of the resources already collected
+     *
+     * @param tombstonesIds: the identifiers of the tombstones to delete
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + STORAGE_TOMBSTONES_KEY + " WHERE " + IDENTIFIER_KEY + " IN (:" + IDENTIFIER_KEY + ")",
+            nativeQuery = true
+    )
+    void deleteTombstones(
+            @Param(IDENTIFIER_KEY) List<String> tombstonesIds
+    );
+
+}
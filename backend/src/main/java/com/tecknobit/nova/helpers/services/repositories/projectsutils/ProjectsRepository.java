@@ -274,4 +274,97 @@ public interface ProjectsRepository extends JpaRepository<Project, String> {
             @Param(IDENTIFIER_KEY) String projectId
     );
 
+    /**
+     * Method to execute the query to increase the bytes occupied by the assets uploaded on a {@link Project}, the
+     * usage is increased only if it does not exceed the quota
+     *
+     * @param projectId: the identifier of the project
+     * @param bytes: the bytes of the assets uploaded
+     * @param quota: the max bytes which the assets of the project can occupy, zero or negative if unlimited
+     *
+     * @return the number of the projects updated, zero if the quota would be exceeded, as int
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + PROJECTS_KEY + " SET "
+                    + STORAGE_USAGE_KEY + "=" + STORAGE_USAGE_KEY + "+:" + STORAGE_USAGE_KEY
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY
+                    + " AND (:quota <= 0 OR " + STORAGE_USAGE_KEY + "+:" + STORAGE_USAGE_KEY + "<=:quota)",
+            nativeQuery = true
+    )
+    int increaseStorageUsage(
+            @Param(IDENTIFIER_KEY) String projectId,
+            @Param(STORAGE_USAGE_KEY) long bytes,
+            @Param("quota") long quota
+    );
+
+    /**
+     * Method to execute the query to decrease the bytes occupied by the assets uploaded on a {@link Project}
+     *
+     * @param projectId: the identifier of the project
+     * @param bytes: the bytes of the assets deleted
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + PROJECTS_KEY + " SET "
+                    + STORAGE_USAGE_KEY + "=GREATEST(" + STORAGE_USAGE_KEY + "-:" + STORAGE_USAGE_KEY + ", 0)"
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void decreaseStorageUsage(
+            @Param(IDENTIFIER_KEY) String projectId,
+            @Param(STORAGE_USAGE_KEY) long bytes
+    );
+
+    /**
+     * Method to execute the query to select the pathnames of the logos of all the projects <br>
+     * No-any params required
+     *
+     * @return the pathnames of the logos as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + LOGO_URL_KEY + " FROM " + PROJECTS_KEY,
+            nativeQuery = true
+    )
+    List<String> getLogoUrls();
+
+    /**
+     * Method to execute the query to count the projects which reference a logo
+     *
+     * @param logoName: the pathname of the logo without its extension, so are counted also the references of its
+     * thumbnails
+     *
+     * @return the number of the projects which reference the logo as int
+     */
+    @Query(
+            value = "SELECT COUNT(*) FROM " + PROJECTS_KEY + " WHERE " + LOGO_URL_KEY + " LIKE CONCAT(:" +
+                    LOGO_URL_KEY + ", '.%')",
+            nativeQuery = true
+    )
+    int countLogoReferences(
+            @Param(LOGO_URL_KEY) String logoName
+    );
+
+    /**
+     * Method to execute the query to relocate the logo of the projects in a new pathname
+     *
+     * @param previousLogoUrl: the previous pathname of the logo
+     * @param logoUrl: the new pathname of the logo
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + PROJECTS_KEY +
+                    " SET "
+                    + LOGO_URL_KEY + "=:" + LOGO_URL_KEY +
+                    " WHERE " + LOGO_URL_KEY + "=:previous_" + LOGO_URL_KEY,
+            nativeQuery = true
+    )
+    void relocateLogo(
+            @Param("previous_" + LOGO_URL_KEY) String previousLogoUrl,
+            @Param(LOGO_URL_KEY) String logoUrl
+    );
+
 }
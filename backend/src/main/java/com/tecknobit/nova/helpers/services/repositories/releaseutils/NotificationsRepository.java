@@ -30,138 +30,158 @@ import static com.tecknobit.novacore.records.release.Release.*;
 public interface NotificationsRepository extends JpaRepository<NovaNotification, String> {
 
     /**
-     * Method to execute the query to insert a new {@link NovaNotification}
+     * Method to execute the query to select the notifications of a user created after a notification, ordered by
+     * their creation
      *
-     * @param id: the identifier of the notification
-     * @param projectLogo: the logo url of the related project
-     * @param releaseId: the identifier of the related release
-     * @param releaseVersion: the version of the related release
-     * @param releaseStatus: the status of the related release
-     * @param userId: the identifier of the user who the notification belongs
+     * @param userId: the identifier of the user who the notifications belong
+     * @param creationDate: the creation date of the last notification already received
+     * @param notificationId: the identifier of the last notification already received
+     * @param limit: the max number of the notifications to select
+     *
+     * @return the notifications list as {@link List} of {@link NovaNotification}
      */
-    @Modifying(clearAutomatically = true)
-    @Transactional
     @Query(
-            value =
-                    "INSERT INTO " + NOTIFICATIONS_KEY
-                            + " ("
-                            + IDENTIFIER_KEY + ","
-                            + LOGO_URL_KEY + ","
-                            + RELEASE_IDENTIFIER_KEY + ","
-                            + RELEASE_VERSION_KEY + ","
-                            + RELEASE_STATUS_KEY + ","
-                            + USER_KEY
-                            + " )"
-                            + " VALUES ("
-                            + ":" + IDENTIFIER_KEY + ","
-                            + ":" + LOGO_URL_KEY + ","
-                            + ":" + RELEASE_IDENTIFIER_KEY + ","
-                            + ":" + RELEASE_VERSION_KEY + ","
-                            + ":" + RELEASE_STATUS_KEY + ","
-                            + ":" + USER_KEY + ")",
+            value = "SELECT * FROM " + NOTIFICATIONS_KEY + " WHERE " + USER_KEY + "=:" + USER_KEY
+                    + " AND (" + CREATION_DATE_KEY + ">:" + CREATION_DATE_KEY + " OR (" + CREATION_DATE_KEY + "=:"
+                    + CREATION_DATE_KEY + " AND " + IDENTIFIER_KEY + ">:" + IDENTIFIER_KEY + "))"
+                    + " ORDER BY " + CREATION_DATE_KEY + "," + IDENTIFIER_KEY + " LIMIT :limit",
             nativeQuery = true
     )
-    void insertNotification(
-            @Param(IDENTIFIER_KEY) String id,
-            @Param(LOGO_URL_KEY) String projectLogo,
-            @Param(RELEASE_IDENTIFIER_KEY) String releaseId,
-            @Param(RELEASE_VERSION_KEY) String releaseVersion,
-            @Param(RELEASE_STATUS_KEY) String releaseStatus,
-            @Param(USER_KEY) String userId
+    List<NovaNotification> getUserNotificationsAfter(
+            @Param(USER_KEY) String userId,
+            @Param(CREATION_DATE_KEY) long creationDate,
+            @Param(IDENTIFIER_KEY) String notificationId,
+            @Param("limit") int limit
     );
 
     /**
-     * Method to execute the query to insert a new {@link NovaNotification} when a release has been deleted
+     * Method to execute the query to select the notifications of a user created before a notification, ordered from
+     * the newest
      *
-     * @param id: the identifier of the notification
-     * @param projectLogo: the logo url of the related project
-     * @param releaseVersion: the version of the related release
-     * @param userId: the identifier of the user who the notification belongs
+     * @param userId: the identifier of the user who the notifications belong
+     * @param creationDate: the creation date of the last notification already received
+     * @param notificationId: the identifier of the last notification already received
+     * @param limit: the max number of the notifications to select
+     *
+     * @return the notifications list as {@link List} of {@link NovaNotification}
+     */
+    @Query(
+            value = "SELECT * FROM " + NOTIFICATIONS_KEY + " WHERE " + USER_KEY + "=:" + USER_KEY
+                    + " AND (" + CREATION_DATE_KEY + "<:" + CREATION_DATE_KEY + " OR (" + CREATION_DATE_KEY + "=:"
+                    + CREATION_DATE_KEY + " AND " + IDENTIFIER_KEY + "<:" + IDENTIFIER_KEY + "))"
+                    + " ORDER BY " + CREATION_DATE_KEY + " DESC," + IDENTIFIER_KEY + " DESC LIMIT :limit",
+            nativeQuery = true
+    )
+    List<NovaNotification> getUserNotificationsBefore(
+            @Param(USER_KEY) String userId,
+            @Param(CREATION_DATE_KEY) long creationDate,
+            @Param(IDENTIFIER_KEY) String notificationId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Method to execute the query to select the notifications of a user not sent yet and created before a
+     * notification, ordered from the newest
+     *
+     * @param userId: the identifier of the user who the notifications belong
+     * @param creationDate: the creation date of the last notification already received
+     * @param notificationId: the identifier of the last notification already received
+     * @param limit: the max number of the notifications to select
+     *
+     * @return the notifications list as {@link List} of {@link NovaNotification}
      */
-    @Modifying(clearAutomatically = true)
-    @Transactional
     @Query(
-            value =
-                    "INSERT INTO " + NOTIFICATIONS_KEY
-                            + " ("
-                            + IDENTIFIER_KEY + ","
-                            + LOGO_URL_KEY + ","
-                            + RELEASE_VERSION_KEY + ","
-                            + USER_KEY
-                            + " )"
-                            + " VALUES ("
-                            + ":" + IDENTIFIER_KEY + ","
-                            + ":" + LOGO_URL_KEY + ","
-                            + ":" + RELEASE_VERSION_KEY + ","
-                            + ":" + USER_KEY + ")",
+            value = "SELECT * FROM " + NOTIFICATIONS_KEY + " WHERE " + USER_KEY + "=:" + USER_KEY
+                    + " AND " + IS_SENT_KEY + "='" + 0 + "'"
+                    + " AND (" + CREATION_DATE_KEY + "<:" + CREATION_DATE_KEY + " OR (" + CREATION_DATE_KEY + "=:"
+                    + CREATION_DATE_KEY + " AND " + IDENTIFIER_KEY + "<:" + IDENTIFIER_KEY + "))"
+                    + " ORDER BY " + CREATION_DATE_KEY + " DESC," + IDENTIFIER_KEY + " DESC LIMIT :limit",
             nativeQuery = true
     )
-    void insertReleaseDeletedNotification(
-            @Param(IDENTIFIER_KEY) String id,
-            @Param(LOGO_URL_KEY) String projectLogo,
-            @Param(RELEASE_VERSION_KEY) String releaseVersion,
-            @Param(USER_KEY) String userId
+    List<NovaNotification> getUserUnsentNotificationsBefore(
+            @Param(USER_KEY) String userId,
+            @Param(CREATION_DATE_KEY) long creationDate,
+            @Param(IDENTIFIER_KEY) String notificationId,
+            @Param("limit") int limit
     );
 
     /**
-     * Method to execute the query to insert a new {@link NovaNotification} when a project has been deleted
+     * Method to execute the query to set as sent a list of notifications
      *
-     * @param id: the identifier of the notification
-     * @param projectLogo: the logo url of the related project
-     * @param userId: the identifier of the user who the notification belongs
+     * @param notificationsIds: the identifiers of the notifications to set as sent
      */
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query(
-            value =
-                    "INSERT INTO " + NOTIFICATIONS_KEY
-                            + " ("
-                            + IDENTIFIER_KEY + ","
-                            + LOGO_URL_KEY + ","
-                            + USER_KEY
-                            + " )"
-                            + " VALUES ("
-                            + ":" + IDENTIFIER_KEY + ","
-                            + ":" + LOGO_URL_KEY + ","
-                            + ":" + USER_KEY + ")",
+            value = "UPDATE " + NOTIFICATIONS_KEY + " SET "
+                    + IS_SENT_KEY + "='" + 1
+                    + "' WHERE " + IDENTIFIER_KEY + " IN (:" + IDENTIFIER_KEY + ")",
+            nativeQuery = true
+    )
+    void setNotificationsAsSent(
+            @Param(IDENTIFIER_KEY) List<String> notificationsIds
+    );
+
+    /**
+     * Method to execute the query to select the status notifications not sent yet which have been superseded by a
+     * newer status notification of the same release for the same user
+     *
+     * @param notificationId: the identifier of the last notification already compacted
+     * @param limit: the max number of the notifications to select
+     *
+     * @return the identifiers of the notifications superseded as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT n." + IDENTIFIER_KEY + " FROM " + NOTIFICATIONS_KEY + " n WHERE n." + IDENTIFIER_KEY
+                    + ">:" + IDENTIFIER_KEY + " AND n." + IS_SENT_KEY + "='" + 0 + "' AND n."
+                    + RELEASE_IDENTIFIER_KEY + " IS NOT NULL AND EXISTS (SELECT 1 FROM " + NOTIFICATIONS_KEY
+                    + " l WHERE l." + USER_KEY + "=n." + USER_KEY + " AND l." + RELEASE_IDENTIFIER_KEY + "=n."
+                    + RELEASE_IDENTIFIER_KEY + " AND l." + IS_SENT_KEY + "='" + 0 + "' AND (l." + CREATION_DATE_KEY
+                    + ">n." + CREATION_DATE_KEY + " OR (l." + CREATION_DATE_KEY + "=n." + CREATION_DATE_KEY
+                    + " AND l." + IDENTIFIER_KEY + ">n." + IDENTIFIER_KEY + ")))"
+                    + " ORDER BY n." + IDENTIFIER_KEY + " LIMIT :limit",
             nativeQuery = true
     )
-    void insertProjectDeletedNotification(
-            @Param(IDENTIFIER_KEY) String id,
-            @Param(LOGO_URL_KEY) String projectLogo,
-            @Param(USER_KEY) String userId
+    List<String> getSupersededNotifications(
+            @Param(IDENTIFIER_KEY) String notificationId,
+            @Param("limit") int limit
     );
 
     /**
-     * Method to execute the query to select all the notifications of a user
+     * Method to execute the query to select the notifications already sent and created before a date
      *
-     * @param userId: the identifier of the user who the notifications belong
+     * @param creationDate: the date before that the notifications sent are expired
+     * @param limit: the max number of the notifications to select
      *
-     * @return the notifications list as {@link List} of {@link NovaNotification}
+     * @return the identifiers of the notifications expired as {@link List} of {@link String}
+     *
+     * @apiNote the notifications created before their creation date was stored have it set to 0, so they are never
+     * selected because their real creation date is unknown
      */
     @Query(
-            value = "SELECT * FROM " + NOTIFICATIONS_KEY + " WHERE " + USER_KEY + "=:" + USER_KEY,
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + NOTIFICATIONS_KEY + " WHERE " + IS_SENT_KEY + "='" + 1
+                    + "' AND " + CREATION_DATE_KEY + ">0 AND " + CREATION_DATE_KEY + "<:" + CREATION_DATE_KEY
+                    + " LIMIT :limit",
             nativeQuery = true
     )
-    List<NovaNotification> getUserNotifications(
-            @Param(USER_KEY) String userId
+    List<String> getExpiredNotifications(
+            @Param(CREATION_DATE_KEY) long creationDate,
+            @Param("limit") int limit
     );
 
     /**
-     * Method to execute the query to set as sent all the notifications of a user
+     * Method to execute the query to delete a list of notifications
      *
-     * @param userId: the identifier of the user who the notifications belong
+     * @param notificationsIds: the identifiers of the notifications to delete
      */
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query(
-            value = "UPDATE " + NOTIFICATIONS_KEY + " SET "
-                    + IS_SENT_KEY + "='" + 1
-                    + "' WHERE " + USER_KEY + "=:" + USER_KEY + " AND " + IS_SENT_KEY + "='" + 0 + "'",
+            value = "DELETE FROM " + NOTIFICATIONS_KEY + " WHERE " + IDENTIFIER_KEY + " IN (:" + IDENTIFIER_KEY + ")",
             nativeQuery = true
     )
-    void setUserNotificationsAsSent(
-            @Param(USER_KEY) String userId
+    void deleteNotifications(
+            @Param(IDENTIFIER_KEY) List<String> notificationsIds
     );
 
     /**
@@ -182,4 +202,23 @@ public interface NotificationsRepository extends JpaRepository<NovaNotification,
             @Param(RELEASE_IDENTIFIER_KEY) String releaseId
     );
 
-}
\ No newline at end of file
+    /**
+     * Method to execute the query to relocate the project logo of the notifications in a new pathname
+     *
+     * @param previousLogoUrl: the previous pathname of the logo
+     * @param logoUrl: the new pathname of the logo
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + NOTIFICATIONS_KEY + " SET "
+                    + LOGO_URL_KEY + "=:" + LOGO_URL_KEY
+                    + " WHERE " + LOGO_URL_KEY + "=:previous_" + LOGO_URL_KEY,
+            nativeQuery = true
+    )
+    void relocateProjectLogo(
+            @Param("previous_" + LOGO_URL_KEY) String previousLogoUrl,
+            @Param(LOGO_URL_KEY) String logoUrl
+    );
+
+}
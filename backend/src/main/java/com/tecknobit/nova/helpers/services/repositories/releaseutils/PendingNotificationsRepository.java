@@ -0,0 +1,126 @@
+package com.tecknobit.nova.helpers.services.repositories.releaseutils;
+
+import com.tecknobit.nova.helpers.services.PendingNotification;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.tecknobit.equinox.environment.records.EquinoxItem.IDENTIFIER_KEY;
+import static com.tecknobit.nova.helpers.services.PendingNotification.*;
+import static com.tecknobit.novacore.records.project.Project.LOGO_URL_KEY;
+import static com.tecknobit.novacore.records.release.Release.*;
+
+/**
+ * The {@code PendingNotificationsRepository} interface is useful to manage the queries for the fan-outs of
+ * notifications not dispatched yet
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see JpaRepository
+ * @see PendingNotification
+ */
+@Service
+@Repository
+public interface PendingNotificationsRepository extends JpaRepository<PendingNotification, String> {
+
+    /**
+     * Method to execute the query to enqueue a new {@link PendingNotification}
+     *
+     * @param id: the identifier of the fan-out
+     * @param projectLogo: the logo url of the related project
+     * @param releaseId: the identifier of the related release, if any
+     * @param releaseVersion: the version of the related release, if any
+     * @param releaseStatus: the status of the related release, if any
+     * @param recipients: the identifiers of the users to notify
+     * @param enqueueDate: the date when the fan-out has been enqueued
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value =
+                    "INSERT INTO " + PENDING_NOTIFICATIONS_KEY
+                            + " ("
+                            + IDENTIFIER_KEY + ","
+                            + LOGO_URL_KEY + ","
+                            + RELEASE_IDENTIFIER_KEY + ","
+                            + RELEASE_VERSION_KEY + ","
+                            + RELEASE_STATUS_KEY + ","
+                            + RECIPIENTS_KEY + ","
+                            + ENQUEUE_DATE_KEY
+                            + " )"
+                            + " VALUES ("
+                            + ":" + IDENTIFIER_KEY + ","
+                            + ":" + LOGO_URL_KEY + ","
+                            + ":" + RELEASE_IDENTIFIER_KEY + ","
+                            + ":" + RELEASE_VERSION_KEY + ","
+                            + ":" + RELEASE_STATUS_KEY + ","
+                            + ":" + RECIPIENTS_KEY + ","
+                            + ":" + ENQUEUE_DATE_KEY + ")",
+            nativeQuery = true
+    )
+    void enqueuePendingNotification(
+            @Param(IDENTIFIER_KEY) String id,
+            @Param(LOGO_URL_KEY) String projectLogo,
+            @Param(RELEASE_IDENTIFIER_KEY) String releaseId,
+            @Param(RELEASE_VERSION_KEY) String releaseVersion,
+            @Param(RELEASE_STATUS_KEY) String releaseStatus,
+            @Param(RECIPIENTS_KEY) String recipients,
+            @Param(ENQUEUE_DATE_KEY) long enqueueDate
+    );
+
+    /**
+     * Method to execute the query to select the oldest fan-outs not dispatched yet
+     *
+     * @param limit: the max number of the fan-outs to select
+     *
+     * @return the fan-outs list as {@link List} of {@link PendingNotification}
+     */
+    @Query(
+            value = "SELECT * FROM " + PENDING_NOTIFICATIONS_KEY + " ORDER BY " + ENQUEUE_DATE_KEY + " LIMIT :limit",
+            nativeQuery = true
+    )
+    List<PendingNotification> getOldestPendingNotifications(
+            @Param("limit") int limit
+    );
+
+    /**
+     * Method to execute the query to lock the fan-outs to dispatch, the fan-outs already locked by another dispatch
+     * or already dispatched are skipped
+     *
+     * @param pendingNotificationsIds: the identifiers of the fan-outs to lock
+     *
+     * @return the identifiers of the fan-outs locked as {@link List} of {@link String}
+     *
+     * @apiNote must be executed in the transaction which dispatches the fan-outs
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + PENDING_NOTIFICATIONS_KEY + " WHERE " + IDENTIFIER_KEY
+                    + " IN (:" + IDENTIFIER_KEY + ") FOR UPDATE SKIP LOCKED",
+            nativeQuery = true
+    )
+    List<String> lockPendingNotifications(
+            @Param(IDENTIFIER_KEY) List<String> pendingNotificationsIds
+    );
+
+    /**
+     * Method to execute the query to delete the fan-outs already dispatched
+     *
+     * @param pendingNotificationsIds: the identifiers of the fan-outs to delete
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + PENDING_NOTIFICATIONS_KEY + " WHERE " + IDENTIFIER_KEY + " IN (:"
+                    + IDENTIFIER_KEY + ")",
+            nativeQuery = true
+    )
+    void deletePendingNotifications(
+            @Param(IDENTIFIER_KEY) List<String> pendingNotificationsIds
+    );
+
+}
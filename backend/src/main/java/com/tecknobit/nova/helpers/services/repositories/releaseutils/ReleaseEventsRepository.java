@@ -15,8 +15,7 @@ import org.springframework.stereotype.Service;
 import static com.tecknobit.equinox.environment.records.EquinoxUser.NAME_KEY;
 import static com.tecknobit.novacore.records.release.Release.RELEASE_IDENTIFIER_KEY;
 import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.*;
-import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.ASSETS_UPLOADED_KEY;
-import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.ASSET_URL_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.*;
 import static com.tecknobit.novacore.records.release.events.RejectedReleaseEvent.REASONS_KEY;
 import static com.tecknobit.novacore.records.release.events.RejectedReleaseEvent.REJECTED_RELEASE_EVENTS_KEY;
 import static com.tecknobit.novacore.records.release.events.ReleaseEvent.RELEASE_EVENT_DATE_KEY;
@@ -77,6 +76,9 @@ public interface ReleaseEventsRepository extends JpaRepository<ReleaseEvent, Str
      * @param assetId: the identifier of the asset
      * @param assetUrl: the url to reach the asset
      * @param assetName: the name of the asset
+     * @param assetSize: the size in bytes of the asset
+     * @param assetChecksum: the SHA-256 checksum of the content of the asset
+     * @param assetContentType: the content type of the asset
      */
     @Modifying(clearAutomatically = true)
     @Transactional
@@ -86,13 +88,19 @@ public interface ReleaseEventsRepository extends JpaRepository<ReleaseEvent, Str
                     + IDENTIFIER_KEY + ","
                     + ASSET_URL_KEY + ","
                     + ASSET_UPLOADING_EVENT_IDENTIFIER_KEY + ","
-                    + NAME_KEY +
+                    + NAME_KEY + ","
+                    + ASSET_SIZE_KEY + ","
+                    + ASSET_CHECKSUM_KEY + ","
+                    + ASSET_CONTENT_TYPE_KEY +
                     " )"
                     + " VALUES ("
                     + ":" + IDENTIFIER_KEY + ","
                     + ":" + ASSET_URL_KEY + ","
                     + ":" + ASSET_UPLOADING_EVENT_IDENTIFIER_KEY + ","
-                    + ":" + NAME_KEY
+                    + ":" + NAME_KEY + ","
+                    + ":" + ASSET_SIZE_KEY + ","
+                    + ":" + ASSET_CHECKSUM_KEY + ","
+                    + ":" + ASSET_CONTENT_TYPE_KEY
                     + ")",
             nativeQuery = true
     )
@@ -100,7 +108,44 @@ public interface ReleaseEventsRepository extends JpaRepository<ReleaseEvent, Str
             @Param(IDENTIFIER_KEY) String assetId,
             @Param(ASSET_URL_KEY) String assetUrl,
             @Param(ASSET_UPLOADING_EVENT_IDENTIFIER_KEY) String eventId,
-            @Param(NAME_KEY) String assetName
+            @Param(NAME_KEY) String assetName,
+            @Param(ASSET_SIZE_KEY) long assetSize,
+            @Param(ASSET_CHECKSUM_KEY) String assetChecksum,
+            @Param(ASSET_CONTENT_TYPE_KEY) String assetContentType
+    );
+
+    /**
+     * Method to execute the query to count the assets which reference the same stored content
+     *
+     * @param assetUrl: the content addressed url of the asset
+     *
+     * @return the number of the assets which reference the content as int
+     */
+    @Query(
+            value = "SELECT COUNT(*) FROM " + ASSETS_UPLOADED_KEY + " WHERE " + ASSET_URL_KEY + "=:" + ASSET_URL_KEY,
+            nativeQuery = true
+    )
+    int countAssetReferences(
+            @Param(ASSET_URL_KEY) String assetUrl
+    );
+
+    /**
+     * Method to execute the query to count the assets which reference the same stored content locking the references,
+     * so no asset can reference the content until the transaction of the caller ends
+     *
+     * @param assetUrl: the content addressed url of the asset
+     *
+     * @return the number of the assets which reference the content as int
+     *
+     * @apiNote must be executed in the transaction which deletes the content when not referenced
+     */
+    @Query(
+            value = "SELECT COUNT(*) FROM " + ASSETS_UPLOADED_KEY + " WHERE " + ASSET_URL_KEY + "=:" + ASSET_URL_KEY
+                    + " FOR UPDATE",
+            nativeQuery = true
+    )
+    int lockAssetReferences(
+            @Param(ASSET_URL_KEY) String assetUrl
     );
 
     /**
@@ -233,4 +278,23 @@ public interface ReleaseEventsRepository extends JpaRepository<ReleaseEvent, Str
             @Param(IDENTIFIER_KEY) String eventId
     );
 
+    /**
+     * Method to execute the query to relocate the assets uploaded in a new pathname
+     *
+     * @param previousAssetUrl: the previous pathname of the asset
+     * @param assetUrl: the new pathname of the asset
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + ASSETS_UPLOADED_KEY + " SET "
+                    + ASSET_URL_KEY + "=:" + ASSET_URL_KEY
+                    + " WHERE " + ASSET_URL_KEY + "=:previous_" + ASSET_URL_KEY,
+            nativeQuery = true
+    )
+    void relocateAsset(
+            @Param("previous_" + ASSET_URL_KEY) String previousAssetUrl,
+            @Param(ASSET_URL_KEY) String assetUrl
+    );
+
 }
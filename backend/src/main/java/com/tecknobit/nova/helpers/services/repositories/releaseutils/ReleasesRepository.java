@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
 
 import static com.tecknobit.novacore.records.project.Project.PROJECT_KEY;
+import static com.tecknobit.novacore.records.project.Project.STORAGE_USAGE_KEY;
 import static com.tecknobit.novacore.records.release.Release.*;
 
 /**
@@ -121,6 +122,25 @@ public interface ReleasesRepository extends JpaRepository<Release, String> {
             @Param(APPROBATION_DATE_KEY) long approbationDate
     );
 
+    /**
+     * Method to execute the query to increase the bytes occupied by the assets uploaded on a {@link Release}
+     *
+     * @param releaseId: the identifier of the release
+     * @param bytes: the bytes of the assets uploaded
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + RELEASES_KEY + " SET "
+                    + STORAGE_USAGE_KEY + "=" + STORAGE_USAGE_KEY + "+:" + STORAGE_USAGE_KEY
+                    + " WHERE " + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void increaseStorageUsage(
+            @Param(IDENTIFIER_KEY) String releaseId,
+            @Param(STORAGE_USAGE_KEY) long bytes
+    );
+
     /**
      * Method to execute the query to set as finished the existing latest releases in a project
      *
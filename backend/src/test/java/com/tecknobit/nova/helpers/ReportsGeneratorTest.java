@@ -0,0 +1,167 @@
+package com.tecknobit.nova.helpers;
+
+import com.tecknobit.nova.helpers.ReportsGenerator.ReportJob;
+import com.tecknobit.nova.helpers.ReportsGenerator.ReportJobStatus;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.novacore.records.release.Release;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.tecknobit.novacore.records.release.Release.REPORT_JOB_STATUS_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The {@code ReportsGeneratorTest} class is useful to test the queue of the reports rendered in background by the
+ * {@link ReportsGenerator} and the statuses of their jobs
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+class ReportsGeneratorTest {
+
+    /**
+     * {@code LANGUAGE} the language of the reports requested
+     */
+    private static final String LANGUAGE = "en";
+
+    /**
+     * {@code REPORT_PATH} the pathname of the reports rendered
+     */
+    private static final String REPORT_PATH = "reports/ab/cd/report.pdf";
+
+    /**
+     * {@code TIMEOUT} the max time, in seconds, waited for a rendering
+     */
+    private static final long TIMEOUT = 10;
+
+    /**
+     * {@code renderingStarted} the latch counted down when a rendering has started
+     */
+    private final CountDownLatch renderingStarted = new CountDownLatch(1);
+
+    /**
+     * {@code renderingAllowed} the latch which holds the renderings until is counted down
+     */
+    private final CountDownLatch renderingAllowed = new CountDownLatch(1);
+
+    /**
+     * {@code renderingError} the error thrown by the renderings, if any
+     */
+    private final AtomicReference<RuntimeException> renderingError = new AtomicReference<>();
+
+    /**
+     * {@code release} the mocked release of the reports requested
+     */
+    private Release release;
+
+    /**
+     * {@code reportsGenerator} the generator to test
+     */
+    private ReportsGenerator reportsGenerator;
+
+    @BeforeEach
+    void setUp() {
+        ReportsIndex reportsIndex = mock(ReportsIndex.class);
+        when(reportsIndex.getReport(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            if(!Thread.currentThread().getName().startsWith("nova-reports-"))
+                return null;
+            renderingStarted.countDown();
+            assertTrue(renderingAllowed.await(TIMEOUT, TimeUnit.SECONDS));
+            RuntimeException error = renderingError.get();
+            if(error != null)
+                throw error;
+            return REPORT_PATH;
+        });
+        release = mock(Release.class);
+        when(release.getId()).thenReturn("release-id");
+        reportsGenerator = new ReportsGenerator(reportsIndex, mock(ReportFragmentsCache.class),
+                mock(PdfRenderer.class), mock(BlobStorage.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        renderingAllowed.countDown();
+        reportsGenerator.shutdown();
+    }
+
+    @Test
+    void submitsOneJobForEachStateHash() {
+        ReportJob job = reportsGenerator.submitReport(release, "state-hash", LANGUAGE);
+        assertSame(job, reportsGenerator.submitReport(release, "state-hash", LANGUAGE));
+        ReportJob otherJob = reportsGenerator.submitReport(release, "other-state-hash", LANGUAGE);
+        assertNotSame(job, otherJob);
+        assertSame(job, reportsGenerator.getJob(job.getId()));
+        assertSame(otherJob, reportsGenerator.getJob(otherJob.getId()));
+    }
+
+    @Test
+    void rejectsTheReportsWhenTheQueueIsFull() {
+        assertThrows(RejectedExecutionException.class, () -> {
+            for (int j = 0; j < 10000; j++)
+                reportsGenerator.submitReport(release, "state-hash-" + j, LANGUAGE);
+        });
+    }
+
+    @Test
+    void completesTheJobs() throws InterruptedException {
+        ReportJob job = reportsGenerator.submitReport(release, "state-hash", LANGUAGE);
+        assertFalse(job.isTerminated());
+        assertTrue(renderingStarted.await(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(ReportJobStatus.Running, job.getStatus());
+        assertEquals(ReportJobStatus.Running, job.toJSON().get(REPORT_JOB_STATUS_KEY));
+        assertNull(job.getReportPath());
+        renderingAllowed.countDown();
+        awaitTermination(job);
+        assertEquals(ReportJobStatus.Completed, job.getStatus());
+        assertEquals(REPORT_PATH, job.getReportPath());
+    }
+
+    @Test
+    void failsTheJobs() throws InterruptedException {
+        renderingError.set(new IllegalStateException());
+        ReportJob job = reportsGenerator.submitReport(release, "state-hash", LANGUAGE);
+        assertTrue(renderingStarted.await(TIMEOUT, TimeUnit.SECONDS));
+        renderingAllowed.countDown();
+        awaitTermination(job);
+        assertEquals(ReportJobStatus.Failed, job.getStatus());
+        assertNull(job.getReportPath());
+    }
+
+    @Test
+    void completesImmediatelyTheReportsAlreadyIndexed() {
+        ReportsIndex reportsIndex = mock(ReportsIndex.class);
+        when(reportsIndex.getReport("release-id", LANGUAGE, "state-hash")).thenReturn(REPORT_PATH);
+        ReportsGenerator indexedReportsGenerator = new ReportsGenerator(reportsIndex, mock(ReportFragmentsCache.class),
+                mock(PdfRenderer.class), mock(BlobStorage.class));
+        try {
+            ReportJob job = indexedReportsGenerator.submitReport(release, "state-hash", LANGUAGE);
+            assertEquals(ReportJobStatus.Completed, job.getStatus());
+            assertEquals(REPORT_PATH, job.getReportPath());
+        } finally {
+            indexedReportsGenerator.shutdown();
+        }
+    }
+
+    /**
+     * Method to wait until a job is terminated
+     *
+     * @param job: the job to wait
+     *
+     * @throws InterruptedException when the wait has been interrupted
+     */
+    private void awaitTermination(ReportJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+        while (!job.isTerminated() && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertTrue(job.isTerminated());
+    }
+
+}
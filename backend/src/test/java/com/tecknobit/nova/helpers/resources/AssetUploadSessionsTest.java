@@ -0,0 +1,268 @@
+package com.tecknobit.nova.helpers.resources;
+
+import com.tecknobit.nova.helpers.resources.AssetUploadSessions.UploadSession;
+import com.tecknobit.nova.helpers.resources.NovaResourcesManager.StoredAsset;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.tecknobit.nova.helpers.resources.AssetUploadSessions.STAGING_PATH;
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.ASSETS_DIRECTORY;
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.createShardedResource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The {@code AssetUploadSessionsTest} class is useful to test the resume and the completion of the upload sessions
+ * managed by the {@link AssetUploadSessions}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+class AssetUploadSessionsTest {
+
+    /**
+     * {@code ASSET_NAME} the name of the asset uploaded
+     */
+    private static final String ASSET_NAME = "nova.apk";
+
+    /**
+     * {@code ASSET_CONTENT_TYPE} the content type of the asset uploaded
+     */
+    private static final String ASSET_CONTENT_TYPE = "application/vnd.android.package-archive";
+
+    /**
+     * {@code ASSET_CONTENT} the content of the asset uploaded
+     */
+    private static final byte[] ASSET_CONTENT = "the content of the asset uploaded".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * {@code blobStorage} the mocked storage of the resources, which consumes the files stored as the real ones
+     */
+    private BlobStorage blobStorage;
+
+    /**
+     * {@code uploadSessions} the upload sessions to test
+     */
+    private AssetUploadSessions uploadSessions;
+
+    /**
+     * {@code createdSessions} the sessions created by the test, removed when it ends
+     */
+    private final ArrayList<UploadSession> createdSessions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        blobStorage = mock(BlobStorage.class);
+        doAnswer(invocation -> {
+            Files.delete(invocation.getArgument(1));
+            return null;
+        }).when(blobStorage).put(anyString(), any(Path.class), anyString());
+        uploadSessions = loadUploadSessions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UploadSession session : createdSessions)
+            uploadSessions.removeSession(session);
+        uploadSessions.shutdown();
+    }
+
+    @Test
+    void rejectsTheAssetsTooLarge() {
+        assertThrows(IllegalArgumentException.class, () -> createSession(DataSize.ofMegabytes(1).toBytes() + 1));
+        assertFalse(uploadSessions.exceedsMaxAssetSize(DataSize.ofMegabytes(1).toBytes()));
+    }
+
+    @Test
+    void rejectsTheUploadsTooLarge() throws IOException {
+        long maxAssetSize = DataSize.ofMegabytes(1).toBytes();
+        UploadSession firstSession = createSession(maxAssetSize);
+        UploadSession secondSession = createSession(maxAssetSize);
+        assertFalse(uploadSessions.exceedsMaxUploadSize(List.of(firstSession, secondSession)));
+        UploadSession thirdSession = createSession(1);
+        assertTrue(uploadSessions.exceedsMaxUploadSize(List.of(firstSession, secondSession, thirdSession)));
+    }
+
+    @Test
+    void rejectsTheChunksNotAtTheOffset() throws IOException {
+        UploadSession session = createSession(ASSET_CONTENT.length);
+        int last = ASSET_CONTENT.length - 1;
+        assertFalse(uploadSessions.appendChunk(session, 1, last, ASSET_CONTENT.length, chunk(1, last)));
+        assertFalse(uploadSessions.appendChunk(session, 0, last, ASSET_CONTENT.length + 1, chunk(0, last)));
+        assertFalse(uploadSessions.appendChunk(session, 0, ASSET_CONTENT.length, ASSET_CONTENT.length,
+                chunk(0, last)));
+        assertEquals(0, session.getOffset());
+    }
+
+    @Test
+    void resumesTheChunksInterrupted() throws IOException {
+        UploadSession session = createSession(ASSET_CONTENT.length);
+        int last = ASSET_CONTENT.length - 1;
+        assertFalse(uploadSessions.appendChunk(session, 0, last, ASSET_CONTENT.length, chunk(0, 9)));
+        assertEquals(10, session.getOffset());
+        assertFalse(session.isCompleted());
+        assertFalse(uploadSessions.appendChunk(session, 0, last, ASSET_CONTENT.length, chunk(0, last)));
+        assertTrue(uploadSessions.appendChunk(session, 10, last, ASSET_CONTENT.length, chunk(10, last)));
+        assertTrue(session.isCompleted());
+        assertEquals(checksum(ASSET_CONTENT), uploadSessions.completeSession(session).checksum());
+    }
+
+    @Test
+    void resumesTheSessionsAfterARestart() throws IOException {
+        UploadSession session = createSession(ASSET_CONTENT.length);
+        uploadSessions.appendChunk(session, 0, ASSET_CONTENT.length - 1, ASSET_CONTENT.length, chunk(0, 9));
+        AssetUploadSessions restartedSessions = loadUploadSessions();
+        try {
+            UploadSession resumedSession = restartedSessions.getSession(session.getId());
+            assertNotNull(resumedSession);
+            assertEquals(10, resumedSession.getOffset());
+            assertEquals(ASSET_NAME, resumedSession.getName());
+            assertEquals(session.getReleaseId(), resumedSession.getReleaseId());
+            assertEquals(session.getOwnerId(), resumedSession.getOwnerId());
+            assertTrue(restartedSessions.appendChunk(resumedSession, 10, ASSET_CONTENT.length - 1,
+                    ASSET_CONTENT.length, chunk(10, ASSET_CONTENT.length - 1)));
+            assertEquals(checksum(ASSET_CONTENT), restartedSessions.completeSession(resumedSession).checksum());
+        } finally {
+            restartedSessions.shutdown();
+        }
+    }
+
+    @Test
+    void completesTheSessionsInTheirContentAddressedPath() throws IOException {
+        UploadSession session = uploadAsset();
+        String checksum = checksum(ASSET_CONTENT);
+        String assetPath = createShardedResource(ASSETS_DIRECTORY, checksum, checksum);
+        StoredAsset storedAsset = uploadSessions.completeSession(session);
+        assertEquals(new StoredAsset(assetPath, ASSET_CONTENT.length, checksum, ASSET_CONTENT_TYPE), storedAsset);
+        verify(blobStorage).put(eq(assetPath), any(Path.class), eq(ASSET_CONTENT_TYPE));
+        assertFalse(Files.exists(Path.of(STAGING_PATH + session.getId() + ".storing")));
+    }
+
+    @Test
+    void storesTheSameContentOnceWhateverIsItsName() throws IOException {
+        StoredAsset storedAsset = uploadSessions.completeSession(uploadAsset());
+        UploadSession renamedSession = uploadSessions.createSession("release-id", "owner-id", "nova",
+                ASSET_CONTENT.length, ASSET_CONTENT_TYPE);
+        createdSessions.add(renamedSession);
+        int last = ASSET_CONTENT.length - 1;
+        assertTrue(uploadSessions.appendChunk(renamedSession, 0, last, ASSET_CONTENT.length, chunk(0, last)));
+        assertEquals(storedAsset.path(), uploadSessions.completeSession(renamedSession).path());
+    }
+
+    @Test
+    void keepsTheSessionsUntilRemoved() throws IOException {
+        UploadSession session = uploadAsset();
+        StoredAsset storedAsset = uploadSessions.completeSession(session);
+        assertSame(session, uploadSessions.getSession(session.getId()));
+        assertEquals(storedAsset, uploadSessions.completeSession(session));
+        verify(blobStorage, times(2)).put(eq(storedAsset.path()), any(Path.class), eq(ASSET_CONTENT_TYPE));
+        uploadSessions.removeSession(session);
+        assertNull(uploadSessions.getSession(session.getId()));
+        assertFalse(Files.exists(Path.of(STAGING_PATH + session.getId() + ".part")));
+        assertFalse(Files.exists(Path.of(STAGING_PATH + session.getId() + ".json")));
+    }
+
+    @Test
+    void reusesTheContentAlreadyStored() throws IOException {
+        UploadSession session = uploadAsset();
+        when(blobStorage.stat(anyString())).thenAnswer(invocation ->
+                new BlobStat(invocation.getArgument(0), ASSET_CONTENT.length, 0));
+        StoredAsset storedAsset = uploadSessions.completeSession(session);
+        assertEquals(checksum(ASSET_CONTENT), storedAsset.checksum());
+        verify(blobStorage, never()).put(anyString(), any(Path.class), anyString());
+        assertFalse(Files.exists(Path.of(STAGING_PATH + session.getId() + ".storing")));
+    }
+
+    /**
+     * Method to load the upload sessions stored in the staging directory <br>
+     * No-any params required
+     *
+     * @return the upload sessions loaded as {@link AssetUploadSessions}
+     *
+     * @throws IOException when the staging directory cannot be created
+     */
+    private AssetUploadSessions loadUploadSessions() throws IOException {
+        AssetUploadSessions uploadSessions = new AssetUploadSessions();
+        ReflectionTestUtils.setField(uploadSessions, "blobStorage", blobStorage);
+        ReflectionTestUtils.setField(uploadSessions, "maxAssetSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(uploadSessions, "maxUploadSize", DataSize.ofMegabytes(2));
+        uploadSessions.loadSessions();
+        return uploadSessions;
+    }
+
+    /**
+     * Method to create a new upload session for the asset
+     *
+     * @param size: the total size in bytes of the asset
+     *
+     * @return the session created as {@link UploadSession}
+     *
+     * @throws IOException when an error occurred creating the session
+     */
+    private UploadSession createSession(long size) throws IOException {
+        UploadSession session = uploadSessions.createSession("release-id", "owner-id", ASSET_NAME, size,
+                ASSET_CONTENT_TYPE);
+        createdSessions.add(session);
+        return session;
+    }
+
+    /**
+     * Method to upload all the content of the asset in a new upload session <br>
+     * No-any params required
+     *
+     * @return the session where the asset has been uploaded as {@link UploadSession}
+     *
+     * @throws IOException when an error occurred uploading the asset
+     */
+    private UploadSession uploadAsset() throws IOException {
+        UploadSession session = createSession(ASSET_CONTENT.length);
+        int last = ASSET_CONTENT.length - 1;
+        assertTrue(uploadSessions.appendChunk(session, 0, last, ASSET_CONTENT.length, chunk(0, last)));
+        return session;
+    }
+
+    /**
+     * Method to get a chunk of the content of the asset
+     *
+     * @param start: the position of the first byte of the chunk
+     * @param end: the position of the last byte of the chunk, inclusive
+     *
+     * @return the stream of the chunk as {@link ByteArrayInputStream}
+     */
+    private ByteArrayInputStream chunk(int start, int end) {
+        return new ByteArrayInputStream(Arrays.copyOfRange(ASSET_CONTENT, start, end + 1));
+    }
+
+    /**
+     * Method to compute the SHA-256 checksum of a content
+     *
+     * @param content: the content from compute the checksum
+     *
+     * @return the checksum of the content as {@link String}
+     */
+    private String checksum(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
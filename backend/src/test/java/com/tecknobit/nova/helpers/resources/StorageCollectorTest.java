@@ -0,0 +1,193 @@
+package com.tecknobit.nova.helpers.resources;
+
+import com.tecknobit.nova.helpers.ReportsIndex;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage;
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
+import com.tecknobit.nova.helpers.services.repositories.StorageTombstonesRepository;
+import com.tecknobit.nova.helpers.services.repositories.projectsutils.ProjectsRepository;
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.ReleaseEventsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.tecknobit.nova.helpers.resources.NovaResourcesManager.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The {@code StorageCollectorTest} class is useful to test that the {@link StorageCollector} deletes only the
+ * resources not referenced anymore
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+class StorageCollectorTest {
+
+    /**
+     * {@code ASSET_PATH} the content addressed pathname of the asset collected
+     */
+    private static final String ASSET_PATH = createShardedResource(ASSETS_DIRECTORY, "checksum", "checksum");
+
+    /**
+     * {@code LOGO_NAME} the pathname, without extension, of the logo collected
+     */
+    private static final String LOGO_NAME = createShardedResource(LOGOS_DIRECTORY, "logo-id", "logo-id");
+
+    /**
+     * {@code REPORT_PATH} the pathname of the report collected
+     */
+    private static final String REPORT_PATH = createShardedResource(REPORTS_DIRECTORY, "report-id", "report-id.pdf");
+
+    /**
+     * {@code tombstonesRepository} the mocked tombstones repository
+     */
+    private StorageTombstonesRepository tombstonesRepository;
+
+    /**
+     * {@code releaseEventsRepository} the mocked events of releases repository
+     */
+    private ReleaseEventsRepository releaseEventsRepository;
+
+    /**
+     * {@code projectsRepository} the mocked projects repository
+     */
+    private ProjectsRepository projectsRepository;
+
+    /**
+     * {@code reportsIndex} the mocked index of the reports
+     */
+    private ReportsIndex reportsIndex;
+
+    /**
+     * {@code blobStorage} the mocked storage of the resources
+     */
+    private BlobStorage blobStorage;
+
+    /**
+     * {@code transactionTemplate} the mocked template which executes the transactions in the thread of the caller
+     */
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * {@code storageCollector} the collector to test on the local storage
+     */
+    private StorageCollector storageCollector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        tombstonesRepository = mock(StorageTombstonesRepository.class);
+        releaseEventsRepository = mock(ReleaseEventsRepository.class);
+        projectsRepository = mock(ProjectsRepository.class);
+        reportsIndex = mock(ReportsIndex.class);
+        blobStorage = mock(BlobStorage.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        storageCollector = createStorageCollector("local");
+    }
+
+    @Test
+    void deletesTheAssetsNotReferenced() throws IOException {
+        buryResource(ASSET_PATH);
+        storageCollector.collectResources();
+        verify(releaseEventsRepository).lockAssetReferences(ASSET_PATH);
+        verify(blobStorage).delete(ASSET_PATH);
+        verify(tombstonesRepository).deleteTombstones(List.of("tombstone-id"));
+    }
+
+    @Test
+    void keepsTheAssetsStillReferenced() throws IOException {
+        buryResource(ASSET_PATH);
+        when(releaseEventsRepository.countAssetReferences(ASSET_PATH)).thenReturn(2);
+        storageCollector.collectResources();
+        verify(releaseEventsRepository, never()).lockAssetReferences(anyString());
+        verify(blobStorage, never()).delete(anyString());
+        verify(tombstonesRepository).deleteTombstones(List.of("tombstone-id"));
+    }
+
+    @Test
+    void keepsTheAssetsReferencedAgainWhileCollected() throws IOException {
+        buryResource(ASSET_PATH);
+        when(releaseEventsRepository.lockAssetReferences(ASSET_PATH)).thenReturn(1);
+        storageCollector.collectResources();
+        verify(blobStorage, never()).delete(anyString());
+    }
+
+    @Test
+    void keepsTheThumbnailsOfTheLogosReferenced() throws IOException {
+        buryResource(LOGO_NAME + "_256.png");
+        when(projectsRepository.countLogoReferences(LOGO_NAME)).thenReturn(1);
+        storageCollector.collectResources();
+        verify(blobStorage, never()).delete(anyString());
+    }
+
+    @Test
+    void keepsTheReportsIndexed() throws IOException {
+        buryResource(REPORT_PATH);
+        when(reportsIndex.getReportPaths()).thenReturn(Set.of(REPORT_PATH));
+        storageCollector.collectResources();
+        verify(blobStorage, never()).delete(anyString());
+    }
+
+    @Test
+    void deletesOnlyTheOldOrphanAssets() throws IOException {
+        String recentAssetPath = createShardedResource(ASSETS_DIRECTORY, "recent", "recent");
+        when(blobStorage.list(startsWith(ASSETS_DIRECTORY + "/"))).thenReturn(List.of(
+                new BlobStat(ASSET_PATH, 1, 0),
+                new BlobStat(recentAssetPath, 1, System.currentTimeMillis())
+        ));
+        storageCollector.collectResources();
+        verify(blobStorage).delete(ASSET_PATH);
+        verify(blobStorage, never()).delete(recentAssetPath);
+    }
+
+    @Test
+    void scansTheOrphanReportsOnlyOnTheLocalStorage() throws IOException {
+        when(blobStorage.list(startsWith(REPORTS_DIRECTORY + "/"))).thenReturn(List.of(
+                new BlobStat(REPORT_PATH, 1, 0)
+        ));
+        createStorageCollector("s3").collectResources();
+        verify(blobStorage, never()).list(startsWith(REPORTS_DIRECTORY + "/"));
+        verify(blobStorage, never()).delete(anyString());
+        storageCollector.collectResources();
+        verify(blobStorage).delete(REPORT_PATH);
+    }
+
+    /**
+     * Method to create a collector without any limit to its deletions rate
+     *
+     * @param storageBackend: the backend where the resources are stored
+     *
+     * @return the collector created as {@link StorageCollector}
+     */
+    private StorageCollector createStorageCollector(String storageBackend) {
+        StorageCollector storageCollector = new StorageCollector(Integer.MAX_VALUE, storageBackend);
+        ReflectionTestUtils.setField(storageCollector, "tombstonesRepository", tombstonesRepository);
+        ReflectionTestUtils.setField(storageCollector, "releaseEventsRepository", releaseEventsRepository);
+        ReflectionTestUtils.setField(storageCollector, "projectsRepository", projectsRepository);
+        ReflectionTestUtils.setField(storageCollector, "reportsIndex", reportsIndex);
+        ReflectionTestUtils.setField(storageCollector, "blobStorage", blobStorage);
+        ReflectionTestUtils.setField(storageCollector, "transactionTemplate", transactionTemplate);
+        return storageCollector;
+    }
+
+    /**
+     * Method to bury a resource, its tombstone is returned as already out of the grace period
+     *
+     * @param resourcePath: the pathname of the resource to bury
+     */
+    private void buryResource(String resourcePath) {
+        when(tombstonesRepository.getOldestTombstones(anyLong(), anyInt()))
+                .thenReturn(List.of(new StorageTombstone("tombstone-id", resourcePath, 0)));
+    }
+
+}
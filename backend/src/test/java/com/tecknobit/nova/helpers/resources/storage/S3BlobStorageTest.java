@@ -0,0 +1,149 @@
+package com.tecknobit.nova.helpers.resources.storage;
+
+import com.tecknobit.nova.helpers.resources.storage.BlobStorage.BlobStat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code S3BlobStorageTest} class is useful to test the {@link S3BlobStorage} against a local MinIO instance
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the test is skipped when Docker is not available
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3BlobStorageTest {
+
+    /**
+     * {@code BUCKET} the bucket where the resources are stored
+     */
+    private static final String BUCKET = "nova";
+
+    /**
+     * {@code REGION} the region of the bucket
+     */
+    private static final String REGION = "us-east-1";
+
+    /**
+     * {@code CONTENT_TYPE} the content type of the resources stored
+     */
+    private static final String CONTENT_TYPE = "application/octet-stream";
+
+    /**
+     * {@code CONTENT} the content of the resources stored
+     */
+    private static final byte[] CONTENT = "the content of the resource stored".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * {@code minio} the local MinIO instance which stands in for the object storage
+     */
+    @Container
+    private static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    /**
+     * {@code blobStorage} the storage to test
+     */
+    private static S3BlobStorage blobStorage;
+
+    @BeforeAll
+    static void setUp() {
+        try (S3Client s3Client = S3Client.builder()
+                .region(Region.of(REGION))
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(minio.getUserName(),
+                        minio.getPassword())))
+                .build()) {
+            s3Client.createBucket(request -> request.bucket(BUCKET));
+        }
+        blobStorage = new S3BlobStorage(minio.getS3URL(), REGION, BUCKET, minio.getUserName(), minio.getPassword(),
+                true);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        blobStorage.close();
+    }
+
+    @Test
+    void storesAndConsumesTheLocalFiles() throws IOException {
+        Path source = Files.createTempFile("nova", ".apk");
+        Files.write(source, CONTENT);
+        blobStorage.put("assets/ab/cd/file.apk", source, CONTENT_TYPE);
+        assertFalse(Files.exists(source));
+        try (InputStream content = blobStorage.get("assets/ab/cd/file.apk")) {
+            assertArrayEquals(CONTENT, content.readAllBytes());
+        }
+    }
+
+    @Test
+    void readsTheRanges() throws IOException {
+        blobStorage.put("assets/ab/cd/range.apk", CONTENT, CONTENT_TYPE);
+        try (InputStream range = blobStorage.get("assets/ab/cd/range.apk", 4, 10)) {
+            assertArrayEquals(Arrays.copyOfRange(CONTENT, 4, 11), range.readAllBytes());
+        }
+    }
+
+    @Test
+    void statsAndListsTheResources() throws IOException {
+        blobStorage.put("reports/ab/cd/report.pdf", CONTENT, CONTENT_TYPE);
+        BlobStat stat = blobStorage.stat("reports/ab/cd/report.pdf");
+        assertNotNull(stat);
+        assertEquals("reports/ab/cd/report.pdf", stat.path());
+        assertEquals(CONTENT.length, stat.size());
+        assertTrue(stat.lastModified() > 0);
+        List<BlobStat> resources = blobStorage.list("reports/ab/");
+        assertEquals(List.of("reports/ab/cd/report.pdf"), resources.stream().map(BlobStat::path).toList());
+        assertTrue(blobStorage.list("reports/ef/").isEmpty());
+    }
+
+    @Test
+    void deletesTheResources() throws IOException {
+        blobStorage.put("logos/ab/cd/logo.png", CONTENT, CONTENT_TYPE);
+        assertTrue(blobStorage.delete("logos/ab/cd/logo.png"));
+        assertNull(blobStorage.stat("logos/ab/cd/logo.png"));
+        assertTrue(blobStorage.delete("logos/ab/cd/logo.png"));
+    }
+
+    @Test
+    void reportsTheMissingResources() throws IOException {
+        assertNull(blobStorage.stat("assets/ab/cd/missing.apk"));
+        assertThrows(NoSuchFileException.class, () -> blobStorage.get("assets/ab/cd/missing.apk"));
+        assertThrows(NoSuchFileException.class, () -> blobStorage.get("assets/ab/cd/missing.apk", 0, 1));
+    }
+
+    @Test
+    void presignsTheDownloads() throws IOException, InterruptedException {
+        blobStorage.put("assets/ab/cd/presigned.apk", CONTENT, CONTENT_TYPE);
+        String url = blobStorage.presign("assets/ab/cd/presigned.apk", "Nova.apk", Duration.ofMinutes(1));
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(URI.create(url))
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(CONTENT, response.body());
+        assertTrue(response.headers().firstValue("Content-Disposition").orElse("").contains("Nova.apk"));
+    }
+
+}
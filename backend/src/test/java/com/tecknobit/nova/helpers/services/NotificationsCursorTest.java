@@ -0,0 +1,57 @@
+package com.tecknobit.nova.helpers.services;
+
+import org.junit.jupiter.api.Test;
+
+import static com.tecknobit.nova.helpers.services.NotificationsCursor.END_CURSOR;
+import static com.tecknobit.nova.helpers.services.NotificationsCursor.START_CURSOR;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code NotificationsCursorTest} class is useful to test the formatting and the parsing of the
+ * {@link NotificationsCursor}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+class NotificationsCursorTest {
+
+    @Test
+    void formatsAndParsesTheCursor() {
+        NotificationsCursor cursor = new NotificationsCursor(1718000000000L, "notification-id");
+        assertEquals("1718000000000_notification-id", cursor.toString());
+        NotificationsCursor parsedCursor = NotificationsCursor.parse(cursor.toString());
+        assertEquals(cursor.getCreationDate(), parsedCursor.getCreationDate());
+        assertEquals(cursor.getNotificationId(), parsedCursor.getNotificationId());
+    }
+
+    @Test
+    void keepsTheSeparatorsOfTheIdentifier() {
+        NotificationsCursor cursor = NotificationsCursor.parse("12_notification_id");
+        assertEquals(12, cursor.getCreationDate());
+        assertEquals("notification_id", cursor.getNotificationId());
+    }
+
+    @Test
+    void usesTheStartCursorWhenNotValid() {
+        assertSame(START_CURSOR, NotificationsCursor.parse(null));
+        assertSame(START_CURSOR, NotificationsCursor.parse(""));
+        assertSame(START_CURSOR, NotificationsCursor.parse("notification-id"));
+        assertSame(START_CURSOR, NotificationsCursor.parse("_notification-id"));
+        assertSame(START_CURSOR, NotificationsCursor.parse("date_notification-id"));
+    }
+
+    @Test
+    void usesTheDefaultCursorWhenNotValid() {
+        assertSame(END_CURSOR, NotificationsCursor.parse(null, END_CURSOR));
+        assertSame(END_CURSOR, NotificationsCursor.parse("date_notification-id", END_CURSOR));
+        assertNull(NotificationsCursor.parse("notification-id", null));
+    }
+
+    @Test
+    void boundsAllTheNotifications() {
+        NotificationsCursor cursor = new NotificationsCursor(0, "notification-id");
+        assertTrue(START_CURSOR.getCreationDate() < cursor.getCreationDate());
+        assertTrue(END_CURSOR.getCreationDate() > cursor.getCreationDate());
+        assertEquals(END_CURSOR.getCreationDate(), NotificationsCursor.parse(END_CURSOR.toString()).getCreationDate());
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.tecknobit.nova.helpers.services;
+
+import com.tecknobit.nova.helpers.services.repositories.releaseutils.NotificationsRepository;
+import com.tecknobit.novacore.records.NovaNotification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.tecknobit.nova.helpers.services.NotificationsCursor.END_CURSOR;
+import static com.tecknobit.nova.helpers.services.NotificationsCursor.START_CURSOR;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The {@code NotificationsStreamTest} class is useful to test from which {@link NotificationsCursor} the
+ * {@link NotificationsStream} pushes the notifications to the users connected
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+class NotificationsStreamTest {
+
+    /**
+     * {@code USER_ID} the identifier of the user connected
+     */
+    private static final String USER_ID = "user-id";
+
+    /**
+     * {@code CATCH_UP_BATCH_SIZE} the max number of the notifications fetched at once by the stream
+     */
+    private static final int CATCH_UP_BATCH_SIZE = 100;
+
+    /**
+     * {@code notificationsRepository} the mocked notifications repository
+     */
+    private NotificationsRepository notificationsRepository;
+
+    /**
+     * {@code notificationsStream} the stream to test, the notifications are pushed in the thread of the caller
+     */
+    private NotificationsStream notificationsStream;
+
+    @BeforeEach
+    void setUp() {
+        notificationsRepository = mock(NotificationsRepository.class);
+        notificationsStream = new NotificationsStream(60000, notificationsRepository, Runnable::run);
+    }
+
+    @Test
+    void startsFromTheLatestNotification() {
+        when(notificationsRepository.getUserNotificationsBefore(USER_ID, END_CURSOR.getCreationDate(),
+                END_CURSOR.getNotificationId(), 1)).thenReturn(List.of(mockNotification(10, "latest", true)));
+        notificationsStream.subscribe(USER_ID, null);
+        verify(notificationsRepository).getUserNotificationsAfter(USER_ID, 10, "latest", CATCH_UP_BATCH_SIZE);
+    }
+
+    @Test
+    void startsFromTheBeginningWithoutNotifications() {
+        notificationsStream.subscribe(USER_ID, null);
+        verify(notificationsRepository).getUserNotificationsAfter(USER_ID, START_CURSOR.getCreationDate(),
+                START_CURSOR.getNotificationId(), CATCH_UP_BATCH_SIZE);
+    }
+
+    @Test
+    void resumesFromTheLastEventReceived() {
+        notificationsStream.subscribe(USER_ID, "5_last-received");
+        verify(notificationsRepository, never()).getUserNotificationsBefore(anyString(), anyLong(), anyString(),
+                anyInt());
+        verify(notificationsRepository).getUserNotificationsAfter(USER_ID, 5, "last-received", CATCH_UP_BATCH_SIZE);
+    }
+
+    @Test
+    void pagesThroughTheNotificationsCreatedInTheMeantime() {
+        ArrayList<NovaNotification> firstPage = new ArrayList<>();
+        ArrayList<String> unsentNotifications = new ArrayList<>();
+        for (int j = 1; j <= CATCH_UP_BATCH_SIZE; j++) {
+            boolean sent = j % 2 == 0;
+            firstPage.add(mockNotification(j, "notification-" + j, sent));
+            if(!sent)
+                unsentNotifications.add("notification-" + j);
+        }
+        when(notificationsRepository.getUserNotificationsAfter(USER_ID, 0, "first", CATCH_UP_BATCH_SIZE))
+                .thenReturn(firstPage);
+        notificationsStream.subscribe(USER_ID, "0_first");
+        verify(notificationsRepository).setNotificationsAsSent(unsentNotifications);
+        verify(notificationsRepository).getUserNotificationsAfter(USER_ID, CATCH_UP_BATCH_SIZE,
+                "notification-" + CATCH_UP_BATCH_SIZE, CATCH_UP_BATCH_SIZE);
+    }
+
+    /**
+     * Method to mock a notification
+     *
+     * @param creationDate: the creation date of the notification
+     * @param id: the identifier of the notification
+     * @param sent: whether the notification has been already sent
+     *
+     * @return the notification mocked as {@link NovaNotification}
+     */
+    private NovaNotification mockNotification(long creationDate, String id, boolean sent) {
+        NovaNotification notification = mock(NovaNotification.class);
+        when(notification.getCreationDate()).thenReturn(creationDate);
+        when(notification.getId()).thenReturn(id);
+        when(notification.isSent()).thenReturn(sent);
+        return notification;
+    }
+
+}
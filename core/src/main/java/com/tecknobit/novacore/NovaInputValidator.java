@@ -49,6 +49,17 @@ public class NovaInputValidator extends InputValidator {
      */
     public static final String WRONG_ASSETS_MESSAGE = "wrong_release_assets_key";
 
+    /**
+     * {@code STORAGE_QUOTA_EXCEEDED_MESSAGE} error message used when the assets uploaded exceed the storage quota of
+     * the project
+     */
+    public static final String STORAGE_QUOTA_EXCEEDED_MESSAGE = "storage_quota_exceeded_key";
+
+    /**
+     * {@code ASSETS_TOO_LARGE_MESSAGE} error message used when the assets uploaded exceed the max size of an upload
+     */
+    public static final String ASSETS_TOO_LARGE_MESSAGE = "assets_too_large_key";
+
     /**
      * {@code WRONG_REASONS_MESSAGE} error message used when the rejected reasons inserted are not valid
      */
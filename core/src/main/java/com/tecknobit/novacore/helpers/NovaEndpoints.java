@@ -39,6 +39,21 @@ public class NovaEndpoints extends EquinoxBaseEndpointsSet {
      */
     public static final String UPLOAD_ASSETS_ENDPOINT = "/uploadAssets";
 
+    /**
+     * {@code STREAM_ASSETS_ENDPOINT} the endpoint to upload the assets streaming them directly on the server
+     */
+    public static final String STREAM_ASSETS_ENDPOINT = "/streamAssets";
+
+    /**
+     * {@code UPLOAD_SESSIONS_ENDPOINT} the endpoint to manage the resumable upload sessions of the assets
+     */
+    public static final String UPLOAD_SESSIONS_ENDPOINT = "/uploadSessions";
+
+    /**
+     * {@code FINALIZE_UPLOAD_ENDPOINT} the endpoint to finalize the resumable upload sessions of the assets
+     */
+    public static final String FINALIZE_UPLOAD_ENDPOINT = "/finalize";
+
     /**
      * {@code COMMENT_ASSET_ENDPOINT} the endpoint to comment an asset uploading of a release
      */
@@ -64,6 +79,21 @@ public class NovaEndpoints extends EquinoxBaseEndpointsSet {
      */
     public static final String CREATE_REPORT_ENDPOINT = "/createReport";
 
+    /**
+     * {@code DOWNLOAD_REPORT_ENDPOINT} the endpoint to download the report of a release
+     */
+    public static final String DOWNLOAD_REPORT_ENDPOINT = "/downloadReport";
+
+    /**
+     * {@code EXPORT_REPORTS_ENDPOINT} the endpoint to export the reports of all the releases of a project
+     */
+    public static final String EXPORT_REPORTS_ENDPOINT = "/exportReports";
+
+    /**
+     * {@code DOWNLOAD_ASSET_ENDPOINT} the endpoint to download an asset uploaded on a release
+     */
+    public static final String DOWNLOAD_ASSET_ENDPOINT = "/assets/";
+
     /**
      * Constructor to init the {@link NovaEndpoints} class <br>
      * No-any params required
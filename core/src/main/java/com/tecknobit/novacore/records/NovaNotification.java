@@ -15,10 +15,13 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.tecknobit.equinox.environment.records.EquinoxItem.IDENTIFIER_KEY;
+import static com.tecknobit.novacore.records.NovaNotification.IS_SENT_KEY;
 import static com.tecknobit.novacore.records.NovaNotification.NOTIFICATIONS_KEY;
 import static com.tecknobit.novacore.records.NovaUser.*;
 import static com.tecknobit.novacore.records.project.Project.LOGO_URL_KEY;
 import static com.tecknobit.novacore.records.release.Release.*;
+import static com.tecknobit.novacore.records.release.Release.CREATION_DATE_KEY;
 
 /**
  * The {@code NovaNotification} class is useful to represent a Nova's notification
@@ -28,7 +31,24 @@ import static com.tecknobit.novacore.records.release.Release.*;
  * @see Serializable
  */
 @Entity
-@Table(name = NOTIFICATIONS_KEY)
+@Table(
+        name = NOTIFICATIONS_KEY,
+        indexes = {
+                @Index(
+                        name = "notifications_user_sent_creation_index",
+                        columnList = USER_KEY + "," + IS_SENT_KEY + "," + CREATION_DATE_KEY + "," + IDENTIFIER_KEY
+                ),
+                @Index(
+                        name = "notifications_user_release_index",
+                        columnList = USER_KEY + "," + RELEASE_IDENTIFIER_KEY + "," + IS_SENT_KEY + ","
+                                + CREATION_DATE_KEY
+                ),
+                @Index(
+                        name = "notifications_sent_creation_index",
+                        columnList = IS_SENT_KEY + "," + CREATION_DATE_KEY
+                )
+        }
+)
 public class NovaNotification extends EquinoxItem {
 
     /**
@@ -107,6 +127,16 @@ public class NovaNotification extends EquinoxItem {
     )
     private final boolean isSent;
 
+    /**
+     * {@code creationDate} the date when the notification has been created
+     */
+    @Column(
+            name = CREATION_DATE_KEY,
+            columnDefinition = "BIGINT DEFAULT 0",
+            insertable = false
+    )
+    private final long creationDate;
+
     /**
      * Constructor to init the {@link NovaNotification} class <br>
      *
@@ -115,7 +145,7 @@ public class NovaNotification extends EquinoxItem {
      * @apiNote empty constructor required
      */
     public NovaNotification() {
-        this(null, null, null, null, null, null, false);
+        this(null, null, null, null, null, null, false, 0);
     }
 
     /**
@@ -136,6 +166,7 @@ public class NovaNotification extends EquinoxItem {
             status = null;
         releaseVersion = hItem.getString(RELEASE_VERSION_KEY);
         isSent = hItem.getBoolean(IS_SENT_KEY);
+        creationDate = hItem.getLong(CREATION_DATE_KEY, 0);
     }
 
     /**
@@ -148,10 +179,11 @@ public class NovaNotification extends EquinoxItem {
      * @param status: the status of the related release
      * @param releaseVersion: the version of the related release
      * @param isSent: whether the notification has been sent already before
+     * @param creationDate: the date when the notification has been created
      *
      */
     public NovaNotification(String id, String projectLogo, NovaUser user, String releaseId, ReleaseStatus status,
-                            String releaseVersion, boolean isSent) {
+                            String releaseVersion, boolean isSent, long creationDate) {
         super(id);
         this.projectLogo = projectLogo;
         this.user = user;
@@ -159,6 +191,7 @@ public class NovaNotification extends EquinoxItem {
         this.status = status;
         this.releaseVersion = releaseVersion;
         this.isSent = isSent;
+        this.creationDate = creationDate;
     }
 
     /**
@@ -180,7 +213,8 @@ public class NovaNotification extends EquinoxItem {
      */
     @JsonIgnore
     public String getProjectId() {
-        return projectLogo.replace("logos/", "").split("\\.")[0];
+        String logoName = projectLogo.substring(projectLogo.lastIndexOf('/') + 1).split("\\.")[0];
+        return logoName.replaceFirst("_\\d+$", "");
     }
 
     /**
@@ -237,6 +271,17 @@ public class NovaNotification extends EquinoxItem {
         return isSent;
     }
 
+    /**
+     * Method to get {@link #creationDate} instance <br>
+     * No-any params required
+     *
+     * @return {@link #creationDate} instance as long
+     */
+    @JsonGetter(CREATION_DATE_KEY)
+    public long getCreationDate() {
+        return creationDate;
+    }
+
     /**
      * Method to assemble and return a {@link List} of notifications
      *
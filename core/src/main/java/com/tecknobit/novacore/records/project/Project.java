@@ -69,6 +69,31 @@ public class Project extends EquinoxItem implements NotificationsTarget {
      */
     public static final String LOGO_URL_KEY = "logo_url";
 
+    /**
+     * {@code LOGO_THUMBNAIL_URL_KEY} the key for the <b>"logo_thumbnail_url"</b> field
+     */
+    public static final String LOGO_THUMBNAIL_URL_KEY = "logo_thumbnail_url";
+
+    /**
+     * {@code SMALL_LOGO_SIZE} the size, in pixels, of the small thumbnail of the logos
+     */
+    public static final int SMALL_LOGO_SIZE = 64;
+
+    /**
+     * {@code MEDIUM_LOGO_SIZE} the size, in pixels, of the medium thumbnail of the logos
+     */
+    public static final int MEDIUM_LOGO_SIZE = 128;
+
+    /**
+     * {@code LARGE_LOGO_SIZE} the size, in pixels, of the large thumbnail of the logos
+     */
+    public static final int LARGE_LOGO_SIZE = 256;
+
+    /**
+     * {@code LOGO_THUMBNAIL_EXTENSION} the extension of the thumbnails of the logos
+     */
+    public static final String LOGO_THUMBNAIL_EXTENSION = ".png";
+
     /**
      * {@code PROJECT_NAME_KEY} the key for the <b>"name"</b> field
      */
@@ -94,6 +119,11 @@ public class Project extends EquinoxItem implements NotificationsTarget {
      */
     public static final String PROJECT_RELEASES_KEY = "project_releases";
 
+    /**
+     * {@code STORAGE_USAGE_KEY} the key for the <b>"storage_usage"</b> field
+     */
+    public static final String STORAGE_USAGE_KEY = "storage_usage";
+
     /**
      * {@code author} the author of the project
      */
@@ -199,6 +229,16 @@ public class Project extends EquinoxItem implements NotificationsTarget {
     )
     private final List<JoiningQRCode> joiningQRCodes;
 
+    /**
+     * {@code storageUsage} the bytes occupied by the assets uploaded on the releases of the project
+     */
+    @Column(
+            name = STORAGE_USAGE_KEY,
+            columnDefinition = "BIGINT DEFAULT 0",
+            insertable = false
+    )
+    private final long storageUsage;
+
     /**
      * Constructor to init the {@link Project} class <br>
      *
@@ -207,7 +247,7 @@ public class Project extends EquinoxItem implements NotificationsTarget {
      * @apiNote empty constructor required
      */
     public Project() {
-        this(null, null, null, null, List.of(), new HashSet<>(), List.of(), List.of());
+        this(null, null, null, null, List.of(), new HashSet<>(), List.of(), List.of(), 0);
     }
 
     /**
@@ -225,6 +265,7 @@ public class Project extends EquinoxItem implements NotificationsTarget {
         JSONArray testers = hItem.getJSONArray(PROJECT_TESTERS_KEY, new JSONArray());
         releases = Release.returnReleasesList(hItem.getJSONArray(RELEASES_KEY));
         joiningQRCodes = null;
+        storageUsage = hItem.getLong(STORAGE_USAGE_KEY, 0);
         markProjectTesters(testers);
     }
 
@@ -239,10 +280,12 @@ public class Project extends EquinoxItem implements NotificationsTarget {
      * @param testers: the testers of the project
      * @param releases       : the releases of the project
      * @param joiningQRCodes : the joining QR-Codes created to join in this project
+     * @param storageUsage: the bytes occupied by the assets uploaded on the releases of the project
      * @apiNote this is useful for the server-side, so for the clients will be ever hidden
      */
     public Project(String id, NovaUser author, String logoUrl, String name, List<NovaUser> projectMembers,
-                   HashSet<NovaUser> testers, List<Release> releases, List<JoiningQRCode> joiningQRCodes) {
+                   HashSet<NovaUser> testers, List<Release> releases, List<JoiningQRCode> joiningQRCodes,
+                   long storageUsage) {
         super(id);
         this.author = author;
         this.logoUrl = logoUrl;
@@ -251,6 +294,7 @@ public class Project extends EquinoxItem implements NotificationsTarget {
         this.testers = testers;
         this.releases = releases;
         this.joiningQRCodes = joiningQRCodes;
+        this.storageUsage = storageUsage;
         markProjectTesters(testers);
     }
 
@@ -299,6 +343,36 @@ public class Project extends EquinoxItem implements NotificationsTarget {
         return logoUrl;
     }
 
+    /**
+     * Method to get the url of the large thumbnail of the logo <br>
+     * No-any params required
+     *
+     * @return the url of the large thumbnail of the logo as {@link String}
+     */
+    @JsonGetter(LOGO_THUMBNAIL_URL_KEY)
+    public String getLogoThumbnailUrl() {
+        return getLogoThumbnailUrl(logoUrl, LARGE_LOGO_SIZE);
+    }
+
+    /**
+     * Method to get the url of a thumbnail of a logo
+     *
+     * @param logoUrl: the url of the logo
+     * @param size: the size of the thumbnail, one of {@link #SMALL_LOGO_SIZE}, {@link #MEDIUM_LOGO_SIZE} or
+     * {@link #LARGE_LOGO_SIZE}
+     *
+     * @return the url of the thumbnail as {@link String}
+     */
+    public static String getLogoThumbnailUrl(String logoUrl, int size) {
+        if(logoUrl == null)
+            return null;
+        int extensionIndex = logoUrl.lastIndexOf('.');
+        if(extensionIndex < logoUrl.lastIndexOf('/'))
+            extensionIndex = -1;
+        String logoName = extensionIndex != -1 ? logoUrl.substring(0, extensionIndex) : logoUrl;
+        return logoName + "_" + size + LOGO_THUMBNAIL_EXTENSION;
+    }
+
     /**
      * Method to get {@link #name} instance <br>
      * No-any params required
@@ -363,6 +437,17 @@ public class Project extends EquinoxItem implements NotificationsTarget {
         return joiningQRCodes;
     }
 
+    /**
+     * Method to get {@link #storageUsage} instance <br>
+     * No-any params required
+     *
+     * @return {@link #storageUsage} instance as long
+     */
+    @JsonGetter(STORAGE_USAGE_KEY)
+    public long getStorageUsage() {
+        return storageUsage;
+    }
+
     /**
      * Method to get whether a {@link NovaUser#MEMBER_IDENTIFIER_KEY} is the author of the current project
      *
@@ -103,6 +103,16 @@ public class Release extends EquinoxItem implements NotificationsTarget {
      */
     public static final String RELEASE_REPORT_PATH = "releaseReport";
 
+    /**
+     * {@code REPORT_JOB_IDENTIFIER_KEY} the key for the <b>"report_job_id"</b> field
+     */
+    public static final String REPORT_JOB_IDENTIFIER_KEY = "report_job_id";
+
+    /**
+     * {@code REPORT_JOB_STATUS_KEY} the key for the <b>"report_job_status"</b> field
+     */
+    public static final String REPORT_JOB_STATUS_KEY = "report_job_status";
+
     /**
      * {@code ReleaseStatus} list of possible statuses of a release
      */
@@ -267,6 +277,16 @@ public class Release extends EquinoxItem implements NotificationsTarget {
     )
     private final long approbationDate;
 
+    /**
+     * {@code storageUsage} the bytes occupied by the assets uploaded on the release
+     */
+    @Column(
+            name = STORAGE_USAGE_KEY,
+            columnDefinition = "BIGINT DEFAULT 0",
+            insertable = false
+    )
+    private final long storageUsage;
+
     /**
      * Constructor to init the {@link Release} class <br>
      *
@@ -275,7 +295,7 @@ public class Release extends EquinoxItem implements NotificationsTarget {
      * @apiNote empty constructor required
      */
     public Release() {
-        this(null, null, null, null, null, -1, List.of(), -1);
+        this(null, null, null, null, null, -1, List.of(), -1, 0);
     }
 
     /**
@@ -293,6 +313,7 @@ public class Release extends EquinoxItem implements NotificationsTarget {
         creationDate = hItem.getLong(CREATION_DATE_KEY);
         releaseEvents = ReleaseEvent.returnReleaseEventsList(hItem.getJSONArray(RELEASE_EVENTS_KEY));
         approbationDate = hItem.getLong(APPROBATION_DATE_KEY, -1);
+        storageUsage = hItem.getLong(STORAGE_USAGE_KEY, 0);
     }
 
     /**
@@ -306,10 +327,11 @@ public class Release extends EquinoxItem implements NotificationsTarget {
      * @param creationDate: the date when the release has been created
      * @param releaseEvents: list of the events occurred on the release
      * @param approbationDate: the date when the release has been approved
+     * @param storageUsage: the bytes occupied by the assets uploaded on the release
      *
      */
     public Release(String id, Project project, String releaseVersion, ReleaseStatus status, String releaseNotes,
-                   long creationDate, List<ReleaseEvent> releaseEvents, long approbationDate) {
+                   long creationDate, List<ReleaseEvent> releaseEvents, long approbationDate, long storageUsage) {
         super(id);
         this.project = project;
         this.releaseVersion = releaseVersion;
@@ -318,6 +340,7 @@ public class Release extends EquinoxItem implements NotificationsTarget {
         this.creationDate = creationDate;
         this.releaseEvents = releaseEvents;
         this.approbationDate = approbationDate;
+        this.storageUsage = storageUsage;
     }
 
     /**
@@ -418,6 +441,17 @@ public class Release extends EquinoxItem implements NotificationsTarget {
         return timeFormatter.formatAsString(approbationDate);
     }
 
+    /**
+     * Method to get {@link #storageUsage} instance <br>
+     * No-any params required
+     *
+     * @return {@link #storageUsage} instance as long
+     */
+    @JsonGetter(STORAGE_USAGE_KEY)
+    public long getStorageUsage() {
+        return storageUsage;
+    }
+
     /**
      * Method to get the specific asset uploading event
      *
@@ -21,6 +21,7 @@ import static com.tecknobit.equinox.environment.records.EquinoxUser.NAME_KEY;
 import static com.tecknobit.novacore.records.NovaUser.Role;
 import static com.tecknobit.novacore.records.release.Release.ReleaseStatus.Verifying;
 import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.ASSETS_UPLOADED_KEY;
+import static com.tecknobit.novacore.records.release.events.AssetUploadingEvent.AssetUploaded.ASSET_URL_KEY;
 
 /**
  * The {@code AssetUploadingEvent} class is useful to represent an asset uploading Nova's event, this event 
@@ -51,6 +52,21 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
      */
     public static final String ASSET_UPLOADING_EVENT_IDENTIFIER_KEY = "asset_uploading_event_id";
 
+    /**
+     * {@code UPLOAD_SESSION_IDENTIFIER_KEY} the key for the <b>"upload_session_id"</b> field
+     */
+    public static final String UPLOAD_SESSION_IDENTIFIER_KEY = "upload_session_id";
+
+    /**
+     * {@code UPLOAD_SESSIONS_KEY} the key for the <b>"upload_sessions"</b> field
+     */
+    public static final String UPLOAD_SESSIONS_KEY = "upload_sessions";
+
+    /**
+     * {@code UPLOAD_OFFSET_KEY} the key for the <b>"upload_offset"</b> field
+     */
+    public static final String UPLOAD_OFFSET_KEY = "upload_offset";
+
     /**
      * {@code COMMENT_KEY} the key for the <b>"comment"</b> flag
      */
@@ -176,7 +192,15 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
      * @see Serializable
      */
     @Entity
-    @Table(name = ASSETS_UPLOADED_KEY)
+    @Table(
+            name = ASSETS_UPLOADED_KEY,
+            indexes = {
+                    @Index(
+                            name = "assets_uploaded_url_index",
+                            columnList = ASSET_URL_KEY
+                    )
+            }
+    )
     public static final class AssetUploaded extends EquinoxItem {
 
         /**
@@ -189,11 +213,31 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
          */
         public static final String ASSET_UPLOADED_KEY = "asset_uploaded";
 
+        /**
+         * {@code ASSET_IDENTIFIER_KEY} the key for the <b>"asset_id"</b> field
+         */
+        public static final String ASSET_IDENTIFIER_KEY = "asset_id";
+
         /**
          * {@code ASSET_URL_KEY} the key for the <b>"asset_url"</b> field
          */
         public static final String ASSET_URL_KEY = "asset_url";
 
+        /**
+         * {@code ASSET_SIZE_KEY} the key for the <b>"asset_size"</b> field
+         */
+        public static final String ASSET_SIZE_KEY = "asset_size";
+
+        /**
+         * {@code ASSET_CHECKSUM_KEY} the key for the <b>"asset_checksum"</b> field
+         */
+        public static final String ASSET_CHECKSUM_KEY = "asset_checksum";
+
+        /**
+         * {@code ASSET_CONTENT_TYPE_KEY} the key for the <b>"asset_content_type"</b> field
+         */
+        public static final String ASSET_CONTENT_TYPE_KEY = "asset_content_type";
+
         /**
          * {@code assetUploadingEvent} event where the asset has been uploaded
          */
@@ -224,6 +268,33 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
         )
         private final String name;
 
+        /**
+         * {@code size} the size in bytes of the asset uploaded
+         */
+        @Column(
+                name = ASSET_SIZE_KEY,
+                columnDefinition = "BIGINT DEFAULT -1"
+        )
+        private final long size;
+
+        /**
+         * {@code checksum} the SHA-256 checksum of the content of the asset uploaded
+         */
+        @Column(
+                name = ASSET_CHECKSUM_KEY,
+                columnDefinition = "VARCHAR(64) DEFAULT NULL"
+        )
+        private final String checksum;
+
+        /**
+         * {@code contentType} the content type of the asset uploaded
+         */
+        @Column(
+                name = ASSET_CONTENT_TYPE_KEY,
+                columnDefinition = "VARCHAR(255) DEFAULT NULL"
+        )
+        private final String contentType;
+
         /**
          * Constructor to init the {@link AssetUploaded} class <br>
          *
@@ -232,7 +303,7 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
          * @apiNote empty constructor required
          */
         public AssetUploaded() {
-            this(null, null, null, null);
+            this(null, null, null, null, -1, null, null);
         }
 
         /**
@@ -246,6 +317,9 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
             assetUploadingEvent = null;
             url = hItem.getString(ASSET_URL_KEY);
             name = hItem.getString(NAME_KEY, id);
+            size = hItem.getLong(ASSET_SIZE_KEY, -1);
+            checksum = hItem.getString(ASSET_CHECKSUM_KEY);
+            contentType = hItem.getString(ASSET_CONTENT_TYPE_KEY);
         }
 
         /**
@@ -255,12 +329,19 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
          * @param assetUploadingEvent: event where the asset has been uploaded
          * @param url: the url which the asset can be downloaded
          * @param name: the name of the asset uploaded
+         * @param size: the size in bytes of the asset uploaded
+         * @param checksum: the SHA-256 checksum of the content of the asset uploaded
+         * @param contentType: the content type of the asset uploaded
          */
-        public AssetUploaded(String id, AssetUploadingEvent assetUploadingEvent, String url, String name) {
+        public AssetUploaded(String id, AssetUploadingEvent assetUploadingEvent, String url, String name, long size,
+                             String checksum, String contentType) {
             super(id);
             this.assetUploadingEvent = assetUploadingEvent;
             this.url = url;
             this.name = name;
+            this.size = size;
+            this.checksum = checksum;
+            this.contentType = contentType;
         }
 
         /**
@@ -295,6 +376,41 @@ public class AssetUploadingEvent extends ReleaseStandardEvent {
             return name;
         }
 
+        /**
+         * Method to get {@link #size} instance <br>
+         * No-any params required
+         *
+         * @return {@link #size} instance as long
+         *
+         * @apiNote the assets uploaded before the size was stored have {@code -1} as size
+         */
+        @JsonGetter(ASSET_SIZE_KEY)
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Method to get {@link #checksum} instance <br>
+         * No-any params required
+         *
+         * @return {@link #checksum} instance as {@link String}
+         */
+        @JsonGetter(ASSET_CHECKSUM_KEY)
+        public String getChecksum() {
+            return checksum;
+        }
+
+        /**
+         * Method to get {@link #contentType} instance <br>
+         * No-any params required
+         *
+         * @return {@link #contentType} instance as {@link String}
+         */
+        @JsonGetter(ASSET_CONTENT_TYPE_KEY)
+        public String getContentType() {
+            return contentType;
+        }
+
         /**
          * Method to assemble and return a {@link List} of assets uploaded
          *